@@ -0,0 +1,98 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.PhaseTable;
+import com.narxoz.rpg.loot.LootTable;
+import com.narxoz.rpg.loot.fire.FireLootTable;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-tick reads of abilities and loot items:
+ * copying getters vs the non-copying views / indexed accessors / visitors.
+ *
+ * Run: gradle jmh -Pjmh.includes=AccessorBenchmarks
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AccessorBenchmarks {
+
+    @State(Scope.Thread)
+    public static class Spawned {
+        @Param({"dragon", "goblin"})
+        String template;
+
+        Enemy enemy;
+        LootTable loot;
+
+        @Setup
+        public void setUp() {
+            EnemyRegistry registry = Fixtures.templates(8, 3, 16);
+            enemy = registry.createFromTemplate(template);
+            loot = enemy.getLootTable();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Themed {
+        // themed tables store item IDs (int[]) shared between clones
+        final LootTable fire = new FireLootTable();
+    }
+
+    @Benchmark
+    public int getAbilitiesSumDamage(Spawned s) {
+        int sum = 0;
+        for (Ability a : s.enemy.getAbilities()) sum += a.getDamage();
+        return sum;
+    }
+
+    @Benchmark
+    public int getAbilityByIndexSumDamage(Spawned s) {
+        int sum = 0;
+        for (int i = 0; i < s.enemy.abilityCount(); i++) sum += s.enemy.getAbility(i).getDamage();
+        return sum;
+    }
+
+    @Benchmark
+    public int abilitiesViewSize(Spawned s) {
+        return s.enemy.abilitiesView().size();
+    }
+
+    @Benchmark
+    public long getItemsTotalLength(Spawned s) {
+        long sum = 0;
+        for (String item : s.loot.getItems()) sum += item.length();
+        return sum;
+    }
+
+    @Benchmark
+    public void forEachItem(Spawned s, Blackhole bh) {
+        s.loot.forEachItem(bh::consume);
+    }
+
+    @Benchmark
+    public PhaseTable getPhaseTable(Spawned s) {
+        return s.enemy.getPhaseTable();
+    }
+
+    @Benchmark
+    public void forEachItemIdFireLootTable(Themed t, Blackhole bh) {
+        t.fire.forEachItemId(bh::consume);
+    }
+
+    @Benchmark
+    public LootTable cloneFireLootTable(Themed t) {
+        return t.fire.clone();
+    }
+}
@@ -0,0 +1,192 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.AoeDamage;
+import com.narxoz.rpg.combat.DamageBatch;
+import com.narxoz.rpg.combat.DamageReport;
+import com.narxoz.rpg.combat.fire.FlameBreath;
+import com.narxoz.rpg.combat.ice.FrostBreath;
+import com.narxoz.rpg.enemy.Element;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One AoE (Flame Breath / Frost Breath, alternating) against a raid's adds:
+ * a loop over the enemies calling getters (element compared as strings)
+ * vs AoeDamage over a DamageBatch. Everyone is revived once all are dead.
+ *
+ * Setup checks that both give the same HP, kills and phase changes and fails the run if not.
+ *
+ * Run: gradle jmh -Pjmh.includes=AoeDamageBenchmarks
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AoeDamageBenchmarks {
+
+    private static final Ability[] AOES = {new FlameBreath(), new FrostBreath()};
+    private static final int CHECK_HITS = 3_000;
+
+    @State(Scope.Thread)
+    public static class Raid {
+        @Param({"200", "1000"})
+        int adds;
+
+        List<Enemy> enemies;
+        GetterLoop getters;
+        DamageBatch batch;
+        final AoeDamage aoe = new AoeDamage();
+        final DamageReport report = new DamageReport();
+        int hit;
+        int dead;
+
+        @Setup
+        public void setUp() {
+            enemies = adds(adds);
+            checkSameOutcome(enemies, CHECK_HITS);
+            getters = new GetterLoop(enemies);
+            batch = DamageBatch.of(enemies);
+        }
+    }
+
+    @Benchmark
+    public long getterLoopPerEnemy(Raid r) {
+        return r.getters.hit(AOES[r.hit++ & 1]);
+    }
+
+    @Benchmark
+    public long aoeDamageOverBatch(Raid r) {
+        r.aoe.apply(AOES[r.hit++ & 1], r.batch, r.report);
+        r.dead += r.report.getKillCount();
+        if (r.dead == r.adds) {
+            for (int i = 0; i < r.adds; i++) r.batch.setHealth(i, r.enemies.get(i).getHealth());
+            r.dead = 0;
+        }
+        return r.report.getTotalDamage();
+    }
+
+    private static void checkSameOutcome(List<Enemy> adds, int hits) {
+        GetterLoop getters = new GetterLoop(adds);
+        DamageBatch batch = DamageBatch.of(adds);
+        AoeDamage aoe = new AoeDamage();
+        DamageReport report = new DamageReport();
+        for (int h = 0; h < hits; h++) {
+            Ability ability = AOES[h & 1];
+            long dealt = getters.hit(ability);
+            aoe.apply(ability, batch, report);
+            boolean same = dealt == report.getTotalDamage()
+                    && getters.kills.size() == report.getKillCount()
+                    && getters.phaseTargets.size() == report.getPhaseChangeCount();
+            for (int i = 0; same && i < report.getKillCount(); i++) {
+                same = getters.kills.get(i) == report.getKilled(i);
+            }
+            for (int i = 0; same && i < report.getPhaseChangeCount(); i++) {
+                same = getters.phaseTargets.get(i) == report.getPhaseChangeTarget(i)
+                        && getters.newPhases.get(i) == report.getNewPhase(i);
+            }
+            for (int i = 0; same && i < adds.size(); i++) {
+                // revived at different times would differ: compare only while both track the same fight
+                same = getters.hp[i] == batch.getHealth(i) || getters.revived;
+            }
+            if (!same) {
+                throw new IllegalStateException("Damage mismatch on hit " + (h + 1));
+            }
+            if (getters.revived) {
+                for (int i = 0; i < adds.size(); i++) batch.setHealth(i, adds.get(i).getHealth());
+            }
+        }
+    }
+
+    /**
+     * Goblins and 3-phase dragons of every element, HP and defense spread out.
+     */
+    private static List<Enemy> adds(int count) {
+        EnemyRegistry registry = Fixtures.templates(EnemyRegistry.CloneMode.COPY_ON_WRITE, 2, 3, 3);
+        Element[] elements = {Element.NONE, Element.FIRE, Element.ICE, Element.SHADOW};
+        SplittableRandom random = new SplittableRandom(42);
+        List<Enemy> adds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Enemy e = registry.createFromTemplate((i % 5 == 0) ? "dragon" : "goblin");
+            e.multiplyStats(0.02 + random.nextDouble() * 0.5);
+            e.setElementCode(elements[i % elements.length]);
+            adds.add(e);
+        }
+        return adds;
+    }
+
+    /**
+     * What the server does today: HP in an array, everything else read through
+     * Enemy getters per target, element rules on getElement() strings.
+     */
+    private static final class GetterLoop {
+        final List<Enemy> adds;
+        final int[] hp;
+        final List<Integer> kills = new ArrayList<>();
+        final List<Integer> phaseTargets = new ArrayList<>();
+        final List<Integer> newPhases = new ArrayList<>();
+        int dead;
+        boolean revived;
+
+        GetterLoop(List<Enemy> adds) {
+            this.adds = adds;
+            this.hp = new int[adds.size()];
+            for (int i = 0; i < hp.length; i++) hp[i] = adds.get(i).getHealth();
+        }
+
+        long hit(Ability ability) {
+            kills.clear();
+            phaseTargets.clear();
+            newPhases.clear();
+            revived = false;
+            String attack = ability.getElementType().name();
+            long dealt = 0;
+            for (int i = 0; i < hp.length; i++) {
+                Enemy e = adds.get(i);
+                int before = hp[i];
+                if (before <= 0) continue;
+                double scaled = ability.getDamage() * modifier(attack, e.getElement());
+                int damage = (int) (scaled * (100.0 / (100.0 + e.getDefense())) + 0.5);
+                int after = before - damage;
+                hp[i] = after;
+                dealt += Math.min(before, damage);
+                if (after <= 0) {
+                    kills.add(i);
+                } else {
+                    int phase = e.getPhaseTable().currentPhase(after);
+                    if (phase != e.getPhaseTable().currentPhase(before)) {
+                        phaseTargets.add(i);
+                        newPhases.add(phase);
+                    }
+                }
+            }
+            dead += kills.size();
+            if (dead == hp.length) {
+                for (int i = 0; i < hp.length; i++) hp[i] = adds.get(i).getHealth();
+                dead = 0;
+                revived = true;
+            }
+            return dealt;
+        }
+
+        private static double modifier(String attack, String defend) {
+            if (attack.equals("NONE") || defend.equals("NONE")) return 1.0;
+            if (attack.equals(defend)) return 0.5;
+            if ((attack.equals("FIRE") && defend.equals("ICE")) || (attack.equals("ICE") && defend.equals("FIRE"))) {
+                return 1.5;
+            }
+            return 1.0;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Raid-wave spawning: per-call createFromTemplate loop vs the bulk API
+ * (sequential and fork-join split).
+ *
+ * Run: gradle jmh -Pjmh.includes=BulkSpawnBenchmarks
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BulkSpawnBenchmarks {
+
+    @State(Scope.Benchmark)
+    public static class Wave {
+        @Param({"DEEP", "COPY_ON_WRITE"})
+        EnemyRegistry.CloneMode mode;
+
+        @Param({"500", "5000"})
+        int wave;
+
+        EnemyRegistry registry;
+        EnemyRegistry parallel;
+
+        @Setup
+        public void setUp() {
+            registry = Fixtures.templates(mode, 8, 3, 3);
+            parallel = Fixtures.templates(mode, 8, 3, 3);
+            parallel.setParallelThreshold(1024);
+        }
+    }
+
+    @Benchmark
+    public Enemy[] perCallLoop(Wave w) {
+        Enemy[] result = new Enemy[w.wave];
+        for (int i = 0; i < w.wave; i++) {
+            result[i] = w.registry.createFromTemplate("goblin");
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Enemy> bulk(Wave w) {
+        return w.registry.createFromTemplate("goblin", w.wave);
+    }
+
+    /**
+     * Fork-join split from 1024 enemies up.
+     */
+    @Benchmark
+    public List<Enemy> bulkForkJoin(Wave w) {
+        return w.parallel.createFromTemplate("goblin", w.wave);
+    }
+
+    @Benchmark
+    public List<Enemy> bulkWithCustomizer(Wave w) {
+        return w.registry.createFromTemplate("goblin", w.wave, e -> e.multiplyStats(1.5));
+    }
+}
@@ -0,0 +1,214 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.CombatTimers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One combat tick with ~100k active timed effects (4 per enemy, durations
+ * 50..3000 ticks, re-applied as they run out): counting every effect down
+ * each tick vs CombatTimers (timing wheel + lazily settled damage over time).
+ *
+ * Setup checks that both give the same expirations and DoT damage and fails the run if not.
+ *
+ * Run: gradle jmh -Pjmh.includes=CombatTimerBenchmarks
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CombatTimerBenchmarks {
+
+    private static final List<Ability> EFFECTS = List.of(new Burn(), new Bleed(), new Chill(), new Ward());
+    private static final int CHECK_TICKS = 5_000;
+
+    @State(Scope.Thread)
+    public static class Fight {
+        @Param({"25000"})
+        int enemies;
+
+        Countdown countdown;
+        CombatTimers timers;
+
+        @Setup
+        public void setUp() {
+            checkSameResult(enemies, CHECK_TICKS);
+            countdown = new Countdown(enemies);
+            timers = start(enemies);
+        }
+    }
+
+    @Benchmark
+    public long countDownEveryEffect(Fight f) {
+        return f.countdown.tick();
+    }
+
+    @Benchmark
+    public long combatTimersTick(Fight f) {
+        return f.timers.tick();
+    }
+
+    private static void checkSameResult(int enemies, int ticks) {
+        Countdown countdown = new Countdown(enemies);
+        CombatTimers timers = start(enemies);
+        long countdownExpired = 0;
+        long timersExpired = 0;
+        for (int t = 0; t < ticks; t++) {
+            countdownExpired += countdown.tick();
+            timersExpired += timers.tick();
+        }
+        long countdownDamage = 0;
+        long timersDamage = 0;
+        for (int e = 0; e < enemies; e++) {
+            countdownDamage += countdown.pendingDamage[e];
+            timersDamage += timers.takeDotDamage(e);
+        }
+        if (countdownExpired != timersExpired || countdownDamage != timersDamage) {
+            throw new IllegalStateException("Timer mismatch: expired " + countdownExpired + " vs " + timersExpired
+                    + ", DoT damage " + countdownDamage + " vs " + timersDamage);
+        }
+    }
+
+    /**
+     * Every effect is re-applied when it runs out; enemy e first gets effect a
+     * on tick e % duration, so expirations are spread out.
+     */
+    private static CombatTimers start(int enemies) {
+        CombatTimers timers = new CombatTimers(EFFECTS, enemies);
+        timers.setEffectListener(timers::applyEffect);
+        int longest = 0;
+        for (Ability a : EFFECTS) longest = Math.max(longest, a.getEffectDuration());
+        for (int s = 0; s < longest; s++) {
+            for (int a = 0; a < EFFECTS.size(); a++) {
+                int duration = EFFECTS.get(a).getEffectDuration();
+                if (s >= duration) continue;
+                for (int e = s; e < enemies; e += duration) timers.applyEffect(e, a);
+            }
+            timers.tick();
+        }
+        return timers;
+    }
+
+    /**
+     * The straightforward model: a remaining-ticks counter per (enemy, effect),
+     * all decremented every tick. Same setup as start().
+     */
+    private static final class Countdown {
+        final int[] remaining;
+        final int[] durations;
+        final int[] damagePerTick;
+        final long[] pendingDamage;
+
+        Countdown(int enemies) {
+            int effects = EFFECTS.size();
+            remaining = new int[enemies * effects];
+            durations = new int[effects];
+            damagePerTick = new int[effects];
+            pendingDamage = new long[enemies];
+            int longest = 0;
+            for (int a = 0; a < effects; a++) {
+                durations[a] = EFFECTS.get(a).getEffectDuration();
+                damagePerTick[a] = EFFECTS.get(a).getDamagePerTick();
+                longest = Math.max(longest, durations[a]);
+            }
+            for (int s = 0; s < longest; s++) {
+                for (int a = 0; a < effects; a++) {
+                    if (s >= durations[a]) continue;
+                    for (int e = s; e < enemies; e += durations[a]) remaining[e * effects + a] = durations[a];
+                }
+                tick();
+            }
+        }
+
+        long tick() {
+            int effects = durations.length;
+            long expired = 0;
+            for (int i = 0; i < remaining.length; i++) {
+                if (remaining[i] == 0) continue;
+                int a = i % effects;
+                pendingDamage[i / effects] += damagePerTick[a];
+                if (--remaining[i] == 0) {
+                    remaining[i] = durations[a];
+                    expired++;
+                }
+            }
+            return expired;
+        }
+    }
+
+    // Long-lasting effects for the benchmark (the themed abilities last a few ticks)
+
+    private abstract static class TimedEffect implements Ability {
+        private final String name;
+        private final int duration;
+        private final int damagePerTick;
+
+        TimedEffect(String name, int duration, int damagePerTick) {
+            this.name = name;
+            this.duration = duration;
+            this.damagePerTick = damagePerTick;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public int getDamage() {
+            return 0;
+        }
+
+        @Override
+        public String getDescription() {
+            return name + " for " + duration + " ticks";
+        }
+
+        @Override
+        public int getEffectDuration() {
+            return duration;
+        }
+
+        @Override
+        public int getDamagePerTick() {
+            return damagePerTick;
+        }
+
+        @Override
+        public Ability clone() {
+            return this;
+        }
+    }
+
+    private static final class Burn extends TimedEffect {
+        Burn() {
+            super("Burn", 50, 20);
+        }
+    }
+
+    private static final class Bleed extends TimedEffect {
+        Bleed() {
+            super("Bleed", 200, 5);
+        }
+    }
+
+    private static final class Chill extends TimedEffect {
+        Chill() {
+            super("Chill", 600, 0);
+        }
+    }
+
+    private static final class Ward extends TimedEffect {
+        Ward() {
+            super("Ward", 3000, 0);
+        }
+    }
+}
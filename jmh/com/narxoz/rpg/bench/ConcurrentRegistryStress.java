@@ -0,0 +1,122 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.builder.BossEnemyBuilder;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.factory.EnemyComponentFactory;
+import com.narxoz.rpg.factory.fire.FireComponentFactory;
+import com.narxoz.rpg.factory.ice.IceComponentFactory;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * jcstress-style check for the shared EnemyRegistry, run as a JMH group.
+ *
+ * Reader threads spawn "boss" in a loop while a writer keeps hot-reloading it,
+ * alternating between two versions (Fire / Ice). Every spawned enemy must match
+ * exactly one version in ALL fields; any mix of the two is a torn read.
+ * Torn reads are counted per group and fail the run at teardown.
+ *
+ * Run: gradle jmh -Pjmh.includes=ConcurrentRegistryStress
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConcurrentRegistryStress {
+
+    @State(Scope.Group)
+    public static class Shared {
+        @Param({"DEEP", "COPY_ON_WRITE"})
+        EnemyRegistry.CloneMode mode;
+
+        EnemyRegistry registry;
+        final AtomicLong torn = new AtomicLong();
+
+        @Setup
+        public void setUp() {
+            registry = new EnemyRegistry(mode);
+            registry.registerTemplate("boss", version(new FireComponentFactory(), "Fire Boss", 1000));
+        }
+
+        @TearDown
+        public void checkNoTornReads() {
+            if (torn.get() != 0) {
+                throw new IllegalStateException(torn.get() + " torn reads in " + mode + " mode");
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+        boolean fire;
+    }
+
+    @Benchmark
+    @Group("hotReload")
+    @GroupThreads(3)
+    public Enemy spawn(Shared s) {
+        Enemy e = s.registry.createFromTemplate("boss");
+        if (!consistent(e)) {
+            s.torn.incrementAndGet();
+        }
+        return e;
+    }
+
+    @Benchmark
+    @Group("hotReload")
+    @GroupThreads(1)
+    public void reload(Shared s, Writer w) {
+        // fresh template objects each time, like a catalog reload
+        s.registry.registerTemplate("boss", w.fire
+                ? version(new FireComponentFactory(), "Fire Boss", 1000)
+                : version(new IceComponentFactory(), "Ice Boss", 2000));
+        w.fire = !w.fire;
+    }
+
+    private static Enemy version(EnemyComponentFactory factory, String name, int health) {
+        return new BossEnemyBuilder()
+                .setName(name)
+                .setHealth(health)
+                .setDamage(health / 10)
+                .setDefense(health / 20)
+                .setSpeed(health / 100)
+                .setAICode(factory.createAIBehavior())
+                .setAbilities(factory.createAbilities())
+                .setLootTable(factory.createLootTable())
+                .build();
+    }
+
+    private static boolean consistent(Enemy e) {
+        if ("Fire Boss".equals(e.getName())) {
+            return matches(e, 1000, "AGGRESSIVE", "Flame Breath", 500);
+        }
+        if ("Ice Boss".equals(e.getName())) {
+            return matches(e, 2000, "DEFENSIVE", "Frost Breath", 450);
+        }
+        return false;
+    }
+
+    private static boolean matches(Enemy e, int health, String ai, String firstAbility, int gold) {
+        return e.getHealth() == health
+                && e.getDamage() == health / 10
+                && e.getDefense() == health / 20
+                && e.getSpeed() == health / 100
+                && ai.equals(e.getAIBehavior())
+                && e.getAbilities().size() == 2
+                && firstAbility.equals(e.getAbilities().get(0).getName())
+                && e.getLootTable() != null
+                && e.getLootTable().getGoldDrop() == gold
+                && e.getPhases().size() == 3;
+    }
+}
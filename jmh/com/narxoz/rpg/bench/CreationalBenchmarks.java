@@ -0,0 +1,149 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.builder.BasicEnemyBuilder;
+import com.narxoz.rpg.builder.BossEnemyBuilder;
+import com.narxoz.rpg.builder.EnemyDirector;
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.factory.EnemyComponentFactory;
+import com.narxoz.rpg.factory.fire.FireComponentFactory;
+import com.narxoz.rpg.factory.ice.IceComponentFactory;
+import com.narxoz.rpg.factory.shadow.ShadowComponentFactory;
+import com.narxoz.rpg.loot.LootTable;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Baseline benchmarks for the whole creational pipeline:
+ * Abstract Factory -> Builder (+ Factory Method) -> Director -> Prototype registry.
+ *
+ * Throughput and SampleTime (p50/p99) per path; the gc profiler configured in
+ * build.gradle adds the allocation rate (gc.alloc.rate.norm = bytes per op).
+ *
+ * Run: gradle jmh -Pjmh.includes=CreationalBenchmarks
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CreationalBenchmarks {
+
+    // ------------------------------------------------------------------
+    // Abstract Factory
+    // ------------------------------------------------------------------
+
+    @State(Scope.Benchmark)
+    public static class Factories {
+        final EnemyComponentFactory fire = new FireComponentFactory();
+        final EnemyComponentFactory ice = new IceComponentFactory();
+        final EnemyComponentFactory shadow = new ShadowComponentFactory();
+    }
+
+    @Benchmark
+    public List<Ability> fireCreateAbilities(Factories f) {
+        return f.fire.createAbilities();
+    }
+
+    @Benchmark
+    public List<Ability> iceCreateAbilities(Factories f) {
+        return f.ice.createAbilities();
+    }
+
+    @Benchmark
+    public List<Ability> shadowCreateAbilities(Factories f) {
+        return f.shadow.createAbilities();
+    }
+
+    @Benchmark
+    public LootTable fireCreateLootTable(Factories f) {
+        return f.fire.createLootTable();
+    }
+
+    // ------------------------------------------------------------------
+    // Director presets (a builder is not thread-safe: one director per thread)
+    // ------------------------------------------------------------------
+
+    @State(Scope.Thread)
+    public static class Directors {
+        final EnemyComponentFactory shadow = new ShadowComponentFactory();
+        final EnemyDirector boss = new EnemyDirector(new BossEnemyBuilder());
+        final EnemyDirector basic = new EnemyDirector(new BasicEnemyBuilder());
+    }
+
+    @Benchmark
+    public Enemy directorCreateRaidBoss(Directors d) {
+        return d.boss.createRaidBoss(d.shadow);
+    }
+
+    @Benchmark
+    public Enemy directorCreateMiniBoss(Directors d) {
+        return d.boss.createMiniBoss(d.shadow);
+    }
+
+    @Benchmark
+    public Enemy directorCreateElite(Directors d) {
+        return d.basic.createElite(d.shadow);
+    }
+
+    @Benchmark
+    public Enemy directorCreateMinion(Directors d) {
+        return d.basic.createMinion(d.shadow);
+    }
+
+    // ------------------------------------------------------------------
+    // Builder + Prototype, by template size
+    // ------------------------------------------------------------------
+
+    @State(Scope.Thread)
+    public static class Sized {
+        @Param({"2", "8", "32"})
+        int abilities;
+
+        @Param({"3", "10"})
+        int phases;
+
+        @Param({"3", "32"})
+        int loot;
+
+        List<Ability> abilityList;
+        BossEnemyBuilder bossBuilder;
+        BasicEnemyBuilder basicBuilder;
+        EnemyRegistry registry;
+
+        @Setup
+        public void setUp() {
+            abilityList = Fixtures.abilities(abilities);
+            bossBuilder = new BossEnemyBuilder();
+            basicBuilder = new BasicEnemyBuilder();
+            registry = Fixtures.templates(abilities, phases, loot);
+        }
+    }
+
+    @Benchmark
+    public Enemy bossBuilderBuild(Sized s) {
+        return Fixtures.configure(s.bossBuilder, s.abilityList, s.phases, s.loot).build();
+    }
+
+    @Benchmark
+    public Enemy basicBuilderBuild(Sized s) {
+        return Fixtures.configure(s.basicBuilder, s.abilityList, 0, s.loot).build();
+    }
+
+    @Benchmark
+    public Enemy createFromTemplateDragon(Sized s) {
+        return s.registry.createFromTemplate("dragon");
+    }
+
+    @Benchmark
+    public Enemy createFromTemplateGoblin(Sized s) {
+        return s.registry.createFromTemplate("goblin");
+    }
+}
@@ -0,0 +1,118 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.builder.BasicEnemyBuilder;
+import com.narxoz.rpg.builder.BossEnemyBuilder;
+import com.narxoz.rpg.builder.EnemyDirector;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.factory.EnemyComponentFactory;
+import com.narxoz.rpg.factory.ice.IceComponentFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mass generation through EnemyDirector.createMinion/createElite.
+ *
+ * Compares the thread-safe options we had (a new director + builder per call)
+ * with one shared pooled director (thread-local builders, reused collections),
+ * and a full builder run (fresh director) with a compiled recipe clone.
+ * The *Threads4 variants run the same op on 4 threads against one shared state.
+ *
+ * Run: gradle jmh -Pjmh.includes=DirectorBenchmarks
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DirectorBenchmarks {
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        final EnemyComponentFactory ice = new IceComponentFactory();
+        final EnemyDirector pooled = EnemyDirector.pooled(BasicEnemyBuilder::new);
+    }
+
+    @State(Scope.Thread)
+    public static class Compiled {
+        final EnemyComponentFactory ice = new IceComponentFactory();
+        final EnemyDirector boss = new EnemyDirector(new BossEnemyBuilder());
+        final EnemyDirector basic = new EnemyDirector(new BasicEnemyBuilder());
+    }
+
+    // ------------------------------------------------------------------
+    // New director per call vs shared pooled director
+    // ------------------------------------------------------------------
+
+    @Benchmark
+    public void newDirectorPerCall(Shared s, Blackhole bh) {
+        bh.consume(new EnemyDirector(new BasicEnemyBuilder()).createMinion(s.ice));
+        bh.consume(new EnemyDirector(new BasicEnemyBuilder()).createElite(s.ice));
+    }
+
+    @Benchmark
+    public void pooledDirector(Shared s, Blackhole bh) {
+        bh.consume(s.pooled.createMinion(s.ice));
+        bh.consume(s.pooled.createElite(s.ice));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void newDirectorPerCallThreads4(Shared s, Blackhole bh) {
+        newDirectorPerCall(s, bh);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void pooledDirectorThreads4(Shared s, Blackhole bh) {
+        pooledDirector(s, bh);
+    }
+
+    // ------------------------------------------------------------------
+    // Presets: full build vs compiled recipe
+    // ------------------------------------------------------------------
+
+    @Benchmark
+    public Enemy fullBuildRaidBoss(Compiled c) {
+        return new EnemyDirector(new BossEnemyBuilder()).createRaidBoss(c.ice);
+    }
+
+    @Benchmark
+    public Enemy compiledRaidBoss(Compiled c) {
+        return c.boss.createRaidBoss(c.ice);
+    }
+
+    @Benchmark
+    public Enemy fullBuildMiniBoss(Compiled c) {
+        return new EnemyDirector(new BossEnemyBuilder()).createMiniBoss(c.ice);
+    }
+
+    @Benchmark
+    public Enemy compiledMiniBoss(Compiled c) {
+        return c.boss.createMiniBoss(c.ice);
+    }
+
+    @Benchmark
+    public Enemy fullBuildElite(Compiled c) {
+        return new EnemyDirector(new BasicEnemyBuilder()).createElite(c.ice);
+    }
+
+    @Benchmark
+    public Enemy compiledElite(Compiled c) {
+        return c.basic.createElite(c.ice);
+    }
+
+    @Benchmark
+    public Enemy fullBuildMinion(Compiled c) {
+        return new EnemyDirector(new BasicEnemyBuilder()).createMinion(c.ice);
+    }
+
+    @Benchmark
+    public Enemy compiledMinion(Compiled c) {
+        return c.basic.createMinion(c.ice);
+    }
+}
@@ -0,0 +1,74 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.builder.BasicEnemyBuilder;
+import com.narxoz.rpg.builder.BossEnemyBuilder;
+import com.narxoz.rpg.builder.EnemyDirector;
+import com.narxoz.rpg.factory.fire.FireComponentFactory;
+import com.narxoz.rpg.factory.ice.IceComponentFactory;
+import com.narxoz.rpg.factory.shadow.ShadowComponentFactory;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+import com.narxoz.rpg.simulation.EconomyReport;
+import com.narxoz.rpg.simulation.EconomySimulator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monte Carlo economy simulation over a themed spawn mix (one op = one whole
+ * simulation; kills per second = ops/s * kills).
+ *
+ * Setup checks reproducibility (same seed twice -> equal reports) and fails the run if not.
+ *
+ * Run: gradle jmh -Pjmh.includes=EconomySimulationBenchmarks
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EconomySimulationBenchmarks {
+
+    @State(Scope.Benchmark)
+    public static class Zone {
+        @Param({"10000000"})
+        long kills;
+
+        @Param({"42"})
+        long seed;
+
+        EconomySimulator simulator;
+        Map<String, Long> mix;
+
+        @Setup
+        public void setUp() {
+            EnemyDirector basic = new EnemyDirector(new BasicEnemyBuilder());
+            EnemyDirector boss = new EnemyDirector(new BossEnemyBuilder());
+            EnemyRegistry registry = new EnemyRegistry();
+            registry.registerTemplate("fire-minion", basic.createMinion(new FireComponentFactory()));
+            registry.registerTemplate("ice-elite", basic.createElite(new IceComponentFactory()));
+            registry.registerTemplate("shadow-raid-boss", boss.createRaidBoss(new ShadowComponentFactory()));
+
+            // a zone: mostly minions, some elites, a few bosses
+            mix = new LinkedHashMap<>();
+            mix.put("fire-minion", kills * 80 / 100);
+            mix.put("ice-elite", kills * 19 / 100);
+            mix.put("shadow-raid-boss", kills / 100);
+
+            simulator = new EconomySimulator(registry);
+            if (!simulator.simulate(mix, seed).equals(simulator.simulate(mix, seed))) {
+                throw new IllegalStateException("Not reproducible: two runs with seed " + seed + " differ");
+            }
+        }
+    }
+
+    @Benchmark
+    public EconomyReport simulate(Zone z) {
+        return z.simulator.simulate(z.mix, z.seed);
+    }
+}
@@ -0,0 +1,121 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.AoeDamage;
+import com.narxoz.rpg.combat.ElementAffinity;
+import com.narxoz.rpg.combat.fire.FlameBreath;
+import com.narxoz.rpg.combat.ice.FrostBreath;
+import com.narxoz.rpg.combat.shadow.ShadowStrike;
+import com.narxoz.rpg.enemy.Element;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-target hit damage: elemental rules on getElement() strings vs
+ * ElementAffinity (matrix by Element ordinals) via AoeDamage.damage().
+ * For the batch path see AoeDamageBenchmarks (cached damage per target profile).
+ *
+ * With the default matrix, setup checks that it gives the same damage as the
+ * string rules for every (ability, target) pair and fails the run if not.
+ *
+ * Run: gradle jmh -Pjmh.includes=ElementAffinityBenchmarks [-Pjmh.params=affinity=affinity.properties]
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ElementAffinityBenchmarks {
+
+    private static final Ability[] ABILITIES = {new FlameBreath(), new FrostBreath(), new ShadowStrike()};
+
+    @State(Scope.Thread)
+    public static class Targets {
+        /**
+         * Affinity file to load; empty for ElementAffinity.DEFAULT.
+         */
+        @Param({""})
+        String affinity;
+
+        AoeDamage aoe;
+        List<Enemy> targets;
+        int next;
+
+        @Setup
+        public void setUp() throws IOException {
+            boolean useDefault = affinity.isEmpty();
+            aoe = new AoeDamage(useDefault ? ElementAffinity.DEFAULT : ElementAffinity.load(Path.of(affinity)));
+            targets = targets();
+            if (useDefault) checkSameDamage(aoe, targets);
+        }
+    }
+
+    @Benchmark
+    public int stringElementRules(Targets t) {
+        int i = t.next++;
+        Enemy target = t.targets.get(i % t.targets.size());
+        return stringRuleDamage(ABILITIES[i % ABILITIES.length], target);
+    }
+
+    @Benchmark
+    public int elementAffinityMatrix(Targets t) {
+        int i = t.next++;
+        Enemy target = t.targets.get(i % t.targets.size());
+        return t.aoe.damage(ABILITIES[i % ABILITIES.length], target.getElementType(), target.getDefense());
+    }
+
+    private static void checkSameDamage(AoeDamage aoe, List<Enemy> targets) {
+        for (Ability ability : ABILITIES) {
+            for (Enemy target : targets) {
+                if (stringRuleDamage(ability, target)
+                        != aoe.damage(ability, target.getElementType(), target.getDefense())) {
+                    throw new IllegalStateException("Affinity mismatch: "
+                            + ability.getName() + " vs " + target.getElement());
+                }
+            }
+        }
+    }
+
+    private static List<Enemy> targets() {
+        EnemyRegistry registry = Fixtures.templates(EnemyRegistry.CloneMode.COPY_ON_WRITE, 2, 3, 3);
+        String[] elements = {"NONE", "FIRE", "ICE", "SHADOW"};
+        List<Enemy> targets = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            Enemy e = registry.createFromTemplate((i % 5 == 0) ? "dragon" : "goblin");
+            e.multiplyStats(0.2 + (i % 7) * 0.1);
+            e.setElement(elements[i % elements.length]);
+            targets.add(e);
+        }
+        return targets;
+    }
+
+    /**
+     * The rule as string comparisons, like callers had to write before ElementAffinity.
+     */
+    private static int stringRuleDamage(Ability ability, Enemy target) {
+        String attack = ability.getElementType().name();
+        String defend = target.getElement();
+        double modifier = 1.0;
+        if (!attack.equals("NONE") && !defend.equals("NONE")) {
+            if (attack.equals(defend)) {
+                modifier = 0.5;
+            } else if ((attack.equals("FIRE") && defend.equals("ICE"))
+                    || (attack.equals("ICE") && defend.equals("FIRE"))) {
+                modifier = 1.5;
+            }
+        }
+        double scaled = ability.getDamage() * modifier;
+        return (int) (scaled * (100.0 / (100.0 + target.getDefense())) + 0.5);
+    }
+}
@@ -0,0 +1,82 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.EnemySnapshot;
+import com.narxoz.rpg.enemy.EnemyStore;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Object-per-mob (registry clones) vs columnar EnemyStore:
+ * spawning a whole population (gc.alloc.rate.norm / mobs = bytes per mob)
+ * and a multiplyStats sweep over it.
+ *
+ * Run: gradle jmh -Pjmh.includes=EnemyStoreBenchmarks
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EnemyStoreBenchmarks {
+
+    @State(Scope.Thread)
+    public static class Population {
+        @Param({"10000", "100000"})
+        int mobs;
+
+        EnemyRegistry deep;
+        EnemyRegistry cow;
+        EnemySnapshot goblin;
+        List<Enemy> deepMobs;
+        EnemyStore store;
+
+        @Setup
+        public void setUp() {
+            deep = Fixtures.templates(4, 3, 8);
+            cow = Fixtures.templates(EnemyRegistry.CloneMode.COPY_ON_WRITE, 4, 3, 8);
+            goblin = deep.getSnapshot("goblin");
+            deepMobs = deep.createFromTemplate("goblin", mobs);
+            store = new EnemyStore(mobs);
+            store.spawn(goblin, mobs);
+        }
+    }
+
+    // Spawn the population
+
+    @Benchmark
+    public List<Enemy> spawnDeepClones(Population p) {
+        return p.deep.createFromTemplate("goblin", p.mobs);
+    }
+
+    @Benchmark
+    public List<Enemy> spawnCopyOnWriteClones(Population p) {
+        return p.cow.createFromTemplate("goblin", p.mobs);
+    }
+
+    @Benchmark
+    public EnemyStore spawnStoreRows(Population p) {
+        EnemyStore store = new EnemyStore(p.mobs);
+        store.spawn(p.goblin, p.mobs);
+        return store;
+    }
+
+    // Sweep it (x1.0 keeps values stable across sweeps while still doing the full work)
+
+    @Benchmark
+    public void multiplyStatsOverObjects(Population p) {
+        for (Enemy e : p.deepMobs) e.multiplyStats(1.0);
+    }
+
+    @Benchmark
+    public void multiplyStatsColumnSweep(Population p) {
+        p.store.multiplyStats(1.0);
+    }
+}
@@ -0,0 +1,77 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.builder.BasicEnemyBuilder;
+import com.narxoz.rpg.builder.BossEnemyBuilder;
+import com.narxoz.rpg.builder.EnemyBuilder;
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.factory.fire.FireComponentFactory;
+import com.narxoz.rpg.factory.ice.IceComponentFactory;
+import com.narxoz.rpg.factory.shadow.ShadowComponentFactory;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Templates of a configurable size, shared by the benchmark classes:
+ * ability count, phase count and loot item count are the usual @Params.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * Registry with a "dragon" and a "goblin" template of the requested size.
+     */
+    static EnemyRegistry templates(int abilityCount, int phaseCount, int lootCount) {
+        return templates(EnemyRegistry.CloneMode.DEEP, abilityCount, phaseCount, lootCount);
+    }
+
+    static EnemyRegistry templates(EnemyRegistry.CloneMode mode, int abilityCount, int phaseCount, int lootCount) {
+        List<Ability> abilities = abilities(abilityCount);
+        EnemyRegistry registry = new EnemyRegistry(mode);
+        registry.registerTemplate("dragon", dragon(abilities, phaseCount, lootCount));
+        registry.registerTemplate("goblin",
+                configure(new BasicEnemyBuilder(), abilities, 0, lootCount).build());
+        return registry;
+    }
+
+    static Enemy dragon(List<Ability> abilities, int phaseCount, int lootCount) {
+        return configure(new BossEnemyBuilder(), abilities, phaseCount, lootCount).build();
+    }
+
+    static EnemyBuilder configure(EnemyBuilder builder, List<Ability> abilities, int phaseCount, int lootCount) {
+        builder.setName("Bench Enemy")
+                .setHealth(50_000)
+                .setDamage(500)
+                .setDefense(250)
+                .setSpeed(50)
+                .setElement("FIRE")
+                .setAI("AGGRESSIVE")
+                .setAbilities(abilities)
+                .setLootTable(new SizedLootTable(lootCount));
+        for (int phase = 1; phase <= phaseCount; phase++) {
+            builder.addPhase(phase, phaseThreshold(phase, phaseCount));
+        }
+        return builder;
+    }
+
+    static List<Ability> abilities(int count) {
+        List<Ability> themed = new ArrayList<>();
+        themed.addAll(new FireComponentFactory().createAbilities());
+        themed.addAll(new IceComponentFactory().createAbilities());
+        themed.addAll(new ShadowComponentFactory().createAbilities());
+
+        List<Ability> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(themed.get(i % themed.size()).clone());
+        }
+        return result;
+    }
+
+    private static int phaseThreshold(int phase, int phaseCount) {
+        return Math.max(1, 50_000 - (phase - 1) * (50_000 / (phaseCount + 1)));
+    }
+}
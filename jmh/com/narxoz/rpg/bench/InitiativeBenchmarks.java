@@ -0,0 +1,149 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.combat.InitiativeScheduler;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One combat round (everyone acts once, fastest first) at mass-combat scale:
+ * re-sorting all combatants by getSpeed() every round vs InitiativeScheduler.
+ * Between rounds {@code changes} random combatants get multiplyStats (haste/slow).
+ *
+ * Setup checks that both give the same turn order for several rounds and fails the run if not.
+ *
+ * Run: gradle jmh -Pjmh.includes=InitiativeBenchmarks
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InitiativeBenchmarks {
+
+    private static final Comparator<Enemy> FASTEST_FIRST = Comparator.comparingInt(Enemy::getSpeed).reversed();
+    private static final int CHECK_ROUNDS = 20;
+
+    @State(Scope.Thread)
+    public static class Combat {
+        @Param({"10000"})
+        int combatants;
+
+        @Param({"0", "100"})
+        int changes;
+
+        List<Enemy> roster;
+        List<Enemy> sorted;
+        final SplittableRandom sortRandom = new SplittableRandom(7);
+
+        List<Enemy> scheduled;
+        InitiativeScheduler scheduler;
+        final SplittableRandom heapRandom = new SplittableRandom(7);
+
+        @Setup
+        public void setUp() {
+            checkSameOrder(combatants, changes, CHECK_ROUNDS);
+            roster = population(combatants);
+            sorted = new ArrayList<>(roster);
+            scheduled = population(combatants);
+            scheduler = schedule(scheduled);
+        }
+    }
+
+    @Benchmark
+    public long fullResortPerRound(Combat c) {
+        changeSpeeds(c.roster, c.changes, c.sortRandom, null);
+        c.sorted.sort(FASTEST_FIRST);
+        long checksum = 0;
+        for (Enemy e : c.sorted) checksum += e.getSpeed();
+        return checksum;
+    }
+
+    @Benchmark
+    public long initiativeSchedulerRound(Combat c) {
+        changeSpeeds(c.scheduled, c.changes, c.heapRandom, c.scheduler);
+        long checksum = 0;
+        for (int i = 0; i < c.combatants; i++) checksum += c.scheduler.next().getSpeed();
+        return checksum;
+    }
+
+    private static void checkSameOrder(int combatants, int changes, int rounds) {
+        List<Enemy> roster = population(combatants);
+        List<Enemy> sorted = new ArrayList<>(roster);
+        List<Enemy> scheduled = population(combatants);
+        Map<Enemy, Integer> sortedIds = ids(roster);
+        Map<Enemy, Integer> scheduledIds = ids(scheduled);
+        InitiativeScheduler scheduler = schedule(scheduled);
+        SplittableRandom sortRandom = new SplittableRandom(11);
+        SplittableRandom heapRandom = new SplittableRandom(11);
+
+        for (int r = 0; r < rounds; r++) {
+            changeSpeeds(roster, changes, sortRandom, null);
+            changeSpeeds(scheduled, changes, heapRandom, scheduler);
+            sorted.sort(FASTEST_FIRST);
+            for (int i = 0; i < combatants; i++) {
+                Enemy next = scheduler.next();
+                if (scheduledIds.get(next).intValue() != sortedIds.get(sorted.get(i)).intValue()) {
+                    throw new IllegalStateException("Order mismatch in round " + (r + 1) + " at turn " + i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Same population for the same size: goblins and dragons with spread-out speeds.
+     */
+    private static List<Enemy> population(int combatants) {
+        EnemyRegistry registry = Fixtures.templates(EnemyRegistry.CloneMode.COPY_ON_WRITE, 2, 3, 3);
+        SplittableRandom random = new SplittableRandom(42);
+        List<Enemy> enemies = new ArrayList<>(combatants);
+        for (int i = 0; i < combatants; i++) {
+            Enemy e = registry.createFromTemplate((i % 10 == 0) ? "dragon" : "goblin");
+            e.multiplyStats(0.5 + random.nextDouble() * 1.5);
+            enemies.add(e);
+        }
+        return enemies;
+    }
+
+    private static InitiativeScheduler schedule(List<Enemy> enemies) {
+        InitiativeScheduler scheduler = new InitiativeScheduler(enemies.size());
+        // the first round of the re-sort loop starts from the list order, like add() order here
+        for (Enemy e : enemies) scheduler.add(e);
+        return scheduler;
+    }
+
+    /**
+     * Haste (x1.25) or slow (x0.8) on random combatants, picked by index in the unsorted roster;
+     * the scheduler is told about each change.
+     */
+    private static void changeSpeeds(List<Enemy> enemies, int changes, SplittableRandom random,
+                                     InitiativeScheduler scheduler) {
+        for (int c = 0; c < changes; c++) {
+            Enemy e = enemies.get(random.nextInt(enemies.size()));
+            boolean haste = random.nextBoolean();
+            // keep speeds in a sane range over long runs (rounding drifts them)
+            if (e.getSpeed() > 200) haste = false;
+            if (e.getSpeed() < 10) haste = true;
+            e.multiplyStats(haste ? 1.25 : 0.8);
+            if (scheduler != null) scheduler.refresh(e);
+        }
+    }
+
+    private static Map<Enemy, Integer> ids(List<Enemy> enemies) {
+        Map<Enemy, Integer> ids = new IdentityHashMap<>();
+        for (int i = 0; i < enemies.size(); i++) ids.put(enemies.get(i), i);
+        return ids;
+    }
+}
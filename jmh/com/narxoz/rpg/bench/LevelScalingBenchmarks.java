@@ -0,0 +1,75 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+import com.narxoz.rpg.prototype.ScalingCurve;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spawning a scaled enemy: clone + multiplyStats(curve(level)) per spawn
+ * vs createAtLevel() from the precomputed LevelTable.
+ *
+ * Setup checks that both give the same stats for every level and fails the run if not.
+ *
+ * Run: gradle jmh -Pjmh.includes=LevelScalingBenchmarks
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LevelScalingBenchmarks {
+
+    @State(Scope.Thread)
+    public static class Scaled {
+        @Param({"47"})
+        int level;
+
+        @Param({"100"})
+        int maxLevel;
+
+        final ScalingCurve curve = ScalingCurve.exponential(1.05);
+        final EnemyRegistry registry = new EnemyRegistry(EnemyRegistry.CloneMode.COPY_ON_WRITE);
+        Enemy template;
+
+        @Setup
+        public void setUp() {
+            template = Fixtures.templates(4, 3, 8).createFromTemplate("goblin");
+            registry.registerTemplate("goblin", template, curve, maxLevel);
+
+            for (int l = 1; l <= maxLevel; l++) {
+                Enemy expected = registry.createFromTemplate("goblin");
+                expected.multiplyStats(curve.multiplierAt(l));
+                Enemy actual = registry.createAtLevel("goblin", l);
+                if (expected.getHealth() != actual.getHealth() || expected.getDamage() != actual.getDamage()
+                        || expected.getDefense() != actual.getDefense() || expected.getSpeed() != actual.getSpeed()) {
+                    throw new IllegalStateException("Level mismatch at level " + l);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public Enemy createThenMultiplyStats(Scaled s) {
+        Enemy e = s.registry.createFromTemplate("goblin");
+        e.multiplyStats(s.curve.multiplierAt(s.level));
+        return e;
+    }
+
+    @Benchmark
+    public Enemy createAtLevel(Scaled s) {
+        return s.registry.createAtLevel("goblin", s.level);
+    }
+
+    @Benchmark
+    public EnemyRegistry registerTemplateWithCurve(Scaled s) {
+        s.registry.registerTemplate("goblin", s.template, s.curve, s.maxLevel);
+        return s.registry;
+    }
+}
@@ -0,0 +1,144 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.loot.DropTable;
+import com.narxoz.rpg.loot.ItemIdSink;
+import com.narxoz.rpg.loot.LootRoller;
+import com.narxoz.rpg.loot.LootSink;
+import com.narxoz.rpg.loot.fire.FireLootTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Weighted loot rolls: alias-method DropTable vs a linear cumulative-weight scan,
+ * for growing table sizes, plus multi-threaded roll throughput.
+ *
+ * Setup checks the sampled distribution against the weights and fails the run if off.
+ *
+ * Run: gradle jmh -Pjmh.includes=LootRollBenchmarks
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LootRollBenchmarks {
+
+    private static final int CHECK_SAMPLES = 2_000_000;
+
+    /**
+     * One roller for all threads (per-thread streams inside).
+     */
+    @State(Scope.Benchmark)
+    public static class Roller {
+        final LootRoller roller = new LootRoller(42);
+        final DropTable fire = new FireLootTable().getDropTable();
+
+        @Setup
+        public void setUp() {
+            checkDistribution(table(64), CHECK_SAMPLES);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Sinks {
+        long dropped;
+        final LootSink count = (item, quantity) -> dropped += quantity;
+        final ItemIdSink countIds = (itemId, quantity) -> dropped += quantity;
+    }
+
+    @State(Scope.Thread)
+    public static class Sized {
+        @Param({"4", "64", "1024"})
+        int entries;
+
+        final SplittableRandom random = new SplittableRandom(42);
+        DropTable table;
+        double[] cumulative;
+        double sum;
+
+        @Setup
+        public void setUp() {
+            table = table(entries);
+            cumulative = new double[entries];
+            double total = 0;
+            for (int i = 0; i < entries; i++) {
+                total += table.getWeight(i);
+                cumulative[i] = total;
+            }
+            sum = total;
+        }
+    }
+
+    @Benchmark
+    public long rollFireDrops(Roller r, Sinks s) {
+        r.roller.roll(r.fire, s.count);
+        return s.dropped;
+    }
+
+    @Benchmark
+    public long rollIdsFireDrops(Roller r, Sinks s) {
+        r.roller.rollIds(r.fire, s.countIds);
+        return s.dropped;
+    }
+
+    @Benchmark
+    public int aliasSample(Sized s) {
+        return s.table.sample(s.random);
+    }
+
+    @Benchmark
+    public int linearCumulativeScan(Sized s) {
+        double x = s.random.nextDouble() * s.sum;
+        int i = 0;
+        while (i < s.cumulative.length - 1 && s.cumulative[i] <= x) i++;
+        return i;
+    }
+
+    // LootRoller per-thread streams
+
+    @Benchmark
+    public int sampleFireDrops(Roller r) {
+        return r.fire.sample(r.roller.random());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int sampleFireDropsThreads4(Roller r) {
+        return sampleFireDrops(r);
+    }
+
+    /**
+     * Skewed weights (1, 2, 3, ...) with quantity ranges.
+     */
+    private static DropTable table(int entries) {
+        DropTable.Builder builder = DropTable.builder();
+        for (int i = 0; i < entries; i++) {
+            builder.add("Bench Item " + i, i + 1, 1, 1 + i % 3);
+        }
+        return builder.build();
+    }
+
+    private static void checkDistribution(DropTable table, int samples) {
+        long[] counts = new long[table.size()];
+        SplittableRandom random = new SplittableRandom(7);
+        for (int s = 0; s < samples; s++) {
+            counts[table.sample(random)]++;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            double expected = table.getChance(i) * samples;
+            // > 6 standard deviations away is a bug, not bad luck
+            double sigma = Math.sqrt(expected * (1 - table.getChance(i)));
+            if (Math.abs(counts[i] - expected) > 6 * sigma) {
+                throw new IllegalStateException("Distribution mismatch at entry " + i
+                        + ": expected ~" + Math.round(expected) + ", got " + counts[i]);
+            }
+        }
+    }
+}
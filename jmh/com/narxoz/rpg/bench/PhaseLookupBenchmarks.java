@@ -0,0 +1,81 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.PhaseTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boss fight loop: "which phase am I in at HP x" on every damage tick.
+ * Legacy getPhases() map scan vs PhaseTable.currentPhase().
+ *
+ * Setup checks that both give the same phase over the whole HP range and fails the run if not.
+ *
+ * Run: gradle jmh -Pjmh.includes=PhaseLookupBenchmarks
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PhaseLookupBenchmarks {
+
+    @State(Scope.Thread)
+    public static class Boss {
+        @Param({"3", "10", "50"})
+        int phases;
+
+        Enemy boss;
+        int hp;
+
+        @Setup
+        public void setUp() {
+            List<Ability> abilities = Fixtures.abilities(2);
+            boss = Fixtures.dragon(abilities, phases, 3);
+            hp = boss.getHealth();
+
+            PhaseTable table = boss.getPhaseTable();
+            for (int h = boss.getHealth(); h > 0; h -= 97) {
+                if (table.currentPhase(h) != currentPhaseFromMap(boss.getPhases(), h)) {
+                    throw new IllegalStateException("Phase mismatch at hp=" + h);
+                }
+            }
+        }
+
+        int hit() {
+            hp = (hp <= 0) ? boss.getHealth() : hp - 37;
+            return hp;
+        }
+    }
+
+    @Benchmark
+    public int getPhasesMapScan(Boss b) {
+        int hp = b.hit();
+        return currentPhaseFromMap(b.boss.getPhases(), hp);
+    }
+
+    @Benchmark
+    public int phaseTableCurrentPhase(Boss b) {
+        int hp = b.hit();
+        return b.boss.getPhaseTable().currentPhase(hp);
+    }
+
+    // What combat code had to do before PhaseTable
+    private static int currentPhaseFromMap(Map<Integer, Integer> phases, int hp) {
+        int current = 0;
+        for (Map.Entry<Integer, Integer> e : phases.entrySet()) {
+            if (e.getValue() >= hp && e.getKey() > current) {
+                current = e.getKey();
+            }
+        }
+        return current;
+    }
+}
@@ -0,0 +1,88 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spawn cost of the Prototype registry: deep clone vs copy-on-write clone.
+ *
+ * Run: gradle jmh -Pjmh.includes=PrototypeBenchmarks
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PrototypeBenchmarks {
+
+    @State(Scope.Benchmark)
+    public static class Sized {
+        @Param({"DEEP", "COPY_ON_WRITE"})
+        EnemyRegistry.CloneMode mode;
+
+        @Param({"2", "8", "32"})
+        int abilities;
+
+        @Param({"3", "10"})
+        int phases;
+
+        @Param({"3", "32"})
+        int loot;
+
+        EnemyRegistry registry;
+
+        @Setup
+        public void setUp() {
+            registry = Fixtures.templates(mode, abilities, phases, loot);
+        }
+    }
+
+    /**
+     * Fixed-size templates for the spawn-then-mutate cases.
+     */
+    @State(Scope.Benchmark)
+    public static class Mutated {
+        @Param({"DEEP", "COPY_ON_WRITE"})
+        EnemyRegistry.CloneMode mode;
+
+        EnemyRegistry registry;
+
+        @Setup
+        public void setUp() {
+            registry = Fixtures.templates(mode, 8, 3, 3);
+        }
+    }
+
+    @Benchmark
+    public Enemy spawnDragon(Sized s) {
+        return s.registry.createFromTemplate("dragon");
+    }
+
+    @Benchmark
+    public Enemy spawnGoblin(Sized s) {
+        return s.registry.createFromTemplate("goblin");
+    }
+
+    // Mutate after spawn (forces the copy)
+
+    @Benchmark
+    public Enemy spawnThenSetElement(Mutated m) {
+        Enemy e = m.registry.createFromTemplate("dragon");
+        e.setElement("ICE");
+        return e;
+    }
+
+    @Benchmark
+    public Enemy spawnThenAddAbility(Mutated m) {
+        Enemy e = m.registry.createFromTemplate("dragon");
+        e.addAbility(e.getAbility(0));
+        return e;
+    }
+}
@@ -0,0 +1,64 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.loot.LootTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Benchmark-only loot table with a configurable number of items,
+ * so we can see how clone cost grows with loot size.
+ */
+final class SizedLootTable implements LootTable {
+
+    private final List<String> items;
+
+    SizedLootTable(int itemCount) {
+        this.items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add("Bench Item " + i);
+        }
+    }
+
+    private SizedLootTable(List<String> items) {
+        this.items = items;
+    }
+
+    @Override
+    public List<String> getItems() {
+        return new ArrayList<>(items);
+    }
+
+    @Override
+    public int itemCount() {
+        return items.size();
+    }
+
+    @Override
+    public String getItem(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public void forEachItem(Consumer<? super String> action) {
+        for (int i = 0; i < items.size(); i++) {
+            action.accept(items.get(i));
+        }
+    }
+
+    @Override
+    public int getGoldDrop() {
+        return 100;
+    }
+
+    @Override
+    public int getExperienceDrop() {
+        return 250;
+    }
+
+    @Override
+    public LootTable clone() {
+        return new SizedLootTable(new ArrayList<>(items));
+    }
+}
@@ -0,0 +1,113 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.EnemyStore;
+import com.narxoz.rpg.enemy.StatScaling;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk multiplyStats after a difficulty change:
+ * per-object Enemy.multiplyStats loop vs EnemyStore / StatScaling column sweeps,
+ * for a dyadic multiplier (integer fast path) and a non-dyadic one (Math.round loop).
+ *
+ * Setup checks that StatScaling rounds exactly like Math.round and fails the run if not.
+ *
+ * Run: gradle jmh -Pjmh.includes=StatScalingBenchmarks
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StatScalingBenchmarks {
+
+    private static final int CHECKS = 1_000_000;
+
+    @State(Scope.Thread)
+    public static class Mobs {
+        @Param({"1000", "10000", "100000"})
+        int mobs;
+
+        // Both keep stats unchanged after rounding, so repeated ops measure the same work.
+        // 1.0 takes the integer fast path; 1.0000001 is not dyadic and takes the Math.round loop.
+        @Param({"1.0", "1.0000001"})
+        double multiplier;
+
+        List<Enemy> enemies;
+        EnemyStore store;
+        int[] column;
+
+        @Setup
+        public void setUp() {
+            checkRounding(CHECKS);
+            EnemyRegistry registry = Fixtures.templates(EnemyRegistry.CloneMode.COPY_ON_WRITE, 4, 3, 8);
+            enemies = registry.createFromTemplate("goblin", mobs);
+            store = new EnemyStore(mobs);
+            store.spawn(registry.getSnapshot("goblin"), mobs);
+            column = new int[mobs];
+            for (int i = 0; i < mobs; i++) column[i] = store.getHealth(i);
+        }
+    }
+
+    @Benchmark
+    public void multiplyStatsPerObject(Mobs m) {
+        for (Enemy e : m.enemies) e.multiplyStats(m.multiplier);
+    }
+
+    @Benchmark
+    public int[] mathRoundColumnLoop(Mobs m) {
+        int[] column = m.column;
+        for (int i = 0; i < column.length; i++) {
+            column[i] = (int) Math.round(column[i] * m.multiplier);
+        }
+        return column;
+    }
+
+    @Benchmark
+    public int[] statScalingColumn(Mobs m) {
+        StatScaling.scale(m.column, 0, m.column.length, m.multiplier);
+        return m.column;
+    }
+
+    /**
+     * All four stat columns.
+     */
+    @Benchmark
+    public EnemyStore enemyStoreMultiplyStats(Mobs m) {
+        m.store.multiplyStats(m.multiplier);
+        return m.store;
+    }
+
+    private static void checkRounding(int checks) {
+        SplittableRandom random = new SplittableRandom(42);
+        double[] multipliers = {1.0, 0.5, 0.75, 1.5, 2.0, 2.5, 3.0, 5.0, -1.5, 0.0,
+                0.1, 1.1, 0.49999999999999994, 1e-9, 123.456, Double.NaN};
+        int[] values = new int[1024];
+        int[] expected = new int[values.length];
+        for (int round = 0; round < checks / values.length; round++) {
+            double m = (round % 2 == 0)
+                    ? multipliers[round / 2 % multipliers.length]
+                    : random.nextDouble(0.0, 10.0);
+            for (int i = 0; i < values.length; i++) {
+                values[i] = (round % 3 == 0) ? random.nextInt() : random.nextInt(-100_000, 100_000);
+                expected[i] = StatScaling.scale(values[i], m);
+            }
+            StatScaling.scale(values, 0, values.length, m);
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != expected[i]) {
+                    throw new IllegalStateException("Rounding mismatch: multiplier=" + m
+                            + " expected=" + expected[i] + " got=" + values[i]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.combat.StatusEffect;
+import com.narxoz.rpg.combat.StatusEffects;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One combat tick at raid scale: a few AoEs put a status effect on random
+ * targets, then effects that ran out are removed.
+ * Per-enemy EnumMap of remaining ticks vs StatusEffects (bit mask + end-tick columns).
+ *
+ * Setup checks that both give the same effects on every enemy and fails the run if not.
+ *
+ * Run: gradle jmh -Pjmh.includes=StatusEffectBenchmarks
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StatusEffectBenchmarks {
+
+    private static final StatusEffect[] EFFECTS = StatusEffect.values();
+    private static final int AOES_PER_TICK = 4;
+    private static final int CHECK_TICKS = 500;
+
+    @State(Scope.Thread)
+    public static class Raid {
+        @Param({"50000"})
+        int enemies;
+
+        @Param({"250"})
+        int targets;
+
+        EnumMaps maps;
+        Aoes mapAoes;
+        StatusEffects effects;
+        Aoes bitAoes;
+
+        @Setup
+        public void setUp() {
+            checkSameEffects(enemies, targets, CHECK_TICKS);
+            maps = new EnumMaps(enemies);
+            mapAoes = new Aoes(enemies, targets, 7);
+            effects = new StatusEffects(enemies);
+            bitAoes = new Aoes(enemies, targets, 7);
+        }
+    }
+
+    @Benchmark
+    public long enumMapApplyAndExpire(Raid r) {
+        r.mapAoes.next(r.maps);
+        return r.maps.tick();
+    }
+
+    @Benchmark
+    public long statusEffectsBulkApplyAndTick(Raid r) {
+        r.bitAoes.next(r.effects);
+        return r.effects.tick();
+    }
+
+    @Benchmark
+    public int statusEffectsCountFreeze(Raid r) {
+        return r.effects.count(StatusEffect.FREEZE);
+    }
+
+    private static void checkSameEffects(int enemies, int targets, int ticks) {
+        EnumMaps maps = new EnumMaps(enemies);
+        StatusEffects effects = new StatusEffects(enemies);
+        Aoes mapAoes = new Aoes(enemies, targets, 11);
+        Aoes bitAoes = new Aoes(enemies, targets, 11);
+        for (int t = 0; t < ticks; t++) {
+            mapAoes.next(maps);
+            bitAoes.next(effects);
+            long mapEnded = maps.tick();
+            long bitEnded = effects.tick();
+            for (int e = 0; e < enemies; e++) {
+                for (StatusEffect effect : EFFECTS) {
+                    Integer left = maps.remaining.get(e).get(effect);
+                    if ((left == null ? 0 : left) != effects.remaining(e, effect) || mapEnded != bitEnded) {
+                        throw new IllegalStateException("Status mismatch on tick " + (t + 1)
+                                + ", enemy " + e + ", " + effect);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * AOES_PER_TICK random (effect, duration 1..6, targets) per tick, same sequence for a seed.
+     */
+    private static final class Aoes {
+        final int[] batch;
+        final int enemies;
+        final SplittableRandom random;
+
+        Aoes(int enemies, int targets, long seed) {
+            this.batch = new int[targets];
+            this.enemies = enemies;
+            this.random = new SplittableRandom(seed);
+        }
+
+        void next(EnumMaps maps) {
+            for (int a = 0; a < AOES_PER_TICK; a++) {
+                StatusEffect effect = roll();
+                int duration = 1 + random.nextInt(6);
+                for (int target : batch) maps.apply(target, effect, duration);
+            }
+        }
+
+        void next(StatusEffects effects) {
+            for (int a = 0; a < AOES_PER_TICK; a++) {
+                StatusEffect effect = roll();
+                int duration = 1 + random.nextInt(6);
+                effects.apply(batch, 0, batch.length, effect, duration);
+            }
+        }
+
+        private StatusEffect roll() {
+            StatusEffect effect = EFFECTS[random.nextInt(EFFECTS.length)];
+            for (int i = 0; i < batch.length; i++) batch[i] = random.nextInt(enemies);
+            return effect;
+        }
+    }
+
+    /**
+     * The straightforward model: remaining ticks per effect in an EnumMap per enemy.
+     */
+    private static final class EnumMaps {
+        final List<Map<StatusEffect, Integer>> remaining;
+
+        EnumMaps(int enemies) {
+            remaining = new ArrayList<>(enemies);
+            for (int e = 0; e < enemies; e++) remaining.add(new EnumMap<>(StatusEffect.class));
+        }
+
+        void apply(int enemy, StatusEffect effect, int duration) {
+            remaining.get(enemy).merge(effect, duration, Math::max);
+        }
+
+        long tick() {
+            long ended = 0;
+            for (Map<StatusEffect, Integer> effects : remaining) {
+                Iterator<Map.Entry<StatusEffect, Integer>> it = effects.entrySet().iterator();
+                while (it.hasNext()) {
+                    Map.Entry<StatusEffect, Integer> entry = it.next();
+                    int left = entry.getValue() - 1;
+                    if (left == 0) {
+                        it.remove();
+                        ended++;
+                    } else {
+                        entry.setValue(left);
+                    }
+                }
+            }
+            return ended;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.builder.BossEnemyBuilder;
+import com.narxoz.rpg.builder.EnemyBuilder;
+import com.narxoz.rpg.enemy.AIBehavior;
+import com.narxoz.rpg.enemy.Element;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.EnemySnapshot;
+import com.narxoz.rpg.factory.EnemyComponentFactory;
+import com.narxoz.rpg.factory.ice.IceComponentFactory;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+import com.narxoz.rpg.prototype.TemplateDelta;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A designer catalog of "Ice Dragon #i" variants of one dragon template:
+ * full templates (builder + registerTemplates) vs delta templates (registerDeltas).
+ * Measures catalog load (gc.alloc.rate.norm / variants = bytes per variant) and spawn cost.
+ *
+ * Setup checks that a delta spawns the same enemy as the full template and fails the run if not.
+ *
+ * Run: gradle jmh -Pjmh.includes=TemplateDeltaBenchmarks
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemplateDeltaBenchmarks {
+
+    @State(Scope.Benchmark)
+    public static class Catalog {
+        @Param({"50000"})
+        int variants;
+
+        final EnemyComponentFactory ice = new IceComponentFactory();
+        EnemySnapshot dragon;
+        EnemyRegistry full;
+        EnemyRegistry deltas;
+        String key;
+
+        @Setup
+        public void setUp() {
+            dragon = Fixtures.templates(4, 3, 8).getSnapshot("dragon");
+            full = loadFull(dragon, ice, variants);
+            deltas = loadDeltas(dragon, ice, variants);
+            key = "ice_dragon_" + (variants / 2);
+            if (!sameEnemy(full.createFromTemplate(key), deltas.createFromTemplate(key))) {
+                throw new IllegalStateException("Delta mismatch: " + key);
+            }
+        }
+    }
+
+    // Catalog load
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public EnemyRegistry loadFullTemplates(Catalog c) {
+        return loadFull(c.dragon, c.ice, c.variants);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public EnemyRegistry loadDeltaTemplates(Catalog c) {
+        return loadDeltas(c.dragon, c.ice, c.variants);
+    }
+
+    // Spawn
+
+    @Benchmark
+    public Enemy spawnFullTemplate(Catalog c) {
+        return c.full.createFromTemplate(c.key);
+    }
+
+    @Benchmark
+    public Enemy spawnResolvedDelta(Catalog c) {
+        return c.deltas.createFromTemplate(c.key);
+    }
+
+    private static EnemyRegistry loadFull(EnemySnapshot dragon, EnemyComponentFactory ice, int variants) {
+        EnemyRegistry registry = new EnemyRegistry(EnemyRegistry.CloneMode.COPY_ON_WRITE);
+        Map<String, Enemy> templates = new HashMap<>();
+        templates.put("dragon", dragon.instantiateDeep());
+        EnemyBuilder builder = new BossEnemyBuilder();
+        for (int i = 0; i < variants; i++) {
+            builder.setName("Ice Dragon #" + i)
+                    .setHealth(dragon.getHealth())
+                    .setDamage(dragon.getDamage())
+                    .setDefense(dragon.getDefense())
+                    .setSpeed(dragon.getSpeed())
+                    .setElementCode(Element.ICE)
+                    .setAICode(AIBehavior.DEFENSIVE)
+                    .setAbilities(ice.createAbilities())
+                    .setLootTable(ice.createLootTable());
+            for (Map.Entry<Integer, Integer> phase : dragon.getPhases().entrySet()) {
+                builder.addPhase(phase.getKey(), phase.getValue());
+            }
+            templates.put("ice_dragon_" + i, builder.build());
+        }
+        registry.registerTemplates(templates);
+        return registry;
+    }
+
+    private static EnemyRegistry loadDeltas(EnemySnapshot dragon, EnemyComponentFactory ice, int variants) {
+        EnemyRegistry registry = new EnemyRegistry(EnemyRegistry.CloneMode.COPY_ON_WRITE);
+        registry.registerTemplate("dragon", dragon.instantiateDeep());
+        Map<String, TemplateDelta> deltas = new HashMap<>();
+        for (int i = 0; i < variants; i++) {
+            deltas.put("ice_dragon_" + i, TemplateDelta.builder("dragon")
+                    .setName("Ice Dragon #" + i)
+                    .setElement(Element.ICE)
+                    .setAI(AIBehavior.DEFENSIVE)
+                    .setAbilities(ice.createAbilities())
+                    .setLootTable(ice.createLootTable())
+                    .build());
+        }
+        registry.registerDeltas(deltas);
+        return registry;
+    }
+
+    private static boolean sameEnemy(Enemy a, Enemy b) {
+        if (a.getClass() != b.getClass() || !a.getName().equals(b.getName())
+                || a.getHealth() != b.getHealth() || a.getDamage() != b.getDamage()
+                || a.getDefense() != b.getDefense() || a.getSpeed() != b.getSpeed()
+                || a.getElementType() != b.getElementType()
+                || a.getAIBehaviorType() != b.getAIBehaviorType()
+                || a.abilityCount() != b.abilityCount()
+                || !a.getPhases().equals(b.getPhases())
+                || !a.getLootTable().getLootInfo().equals(b.getLootTable().getLootInfo())) {
+            return false;
+        }
+        for (int i = 0; i < a.abilityCount(); i++) {
+            if (a.getAbility(i).getClass() != b.getAbility(i).getClass()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
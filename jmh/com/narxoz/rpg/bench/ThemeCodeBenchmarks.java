@@ -0,0 +1,63 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.enemy.AIBehavior;
+import com.narxoz.rpg.enemy.Element;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Element / AI behavior handling: string setters (parse cache) vs interned codes,
+ * and element checks by string equals vs reference comparison.
+ *
+ * Run: gradle jmh -Pjmh.includes=ThemeCodeBenchmarks
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ThemeCodeBenchmarks {
+
+    @State(Scope.Thread)
+    public static class Dragon {
+        final EnemyRegistry registry = Fixtures.templates(EnemyRegistry.CloneMode.COPY_ON_WRITE, 4, 3, 8);
+        final Enemy dragon = registry.createFromTemplate("dragon");
+        // a config-style string that needs trim + upper-case
+        final String rawElement = new String(" fire ");
+        final String rawAI = new String("defensive");
+    }
+
+    @Benchmark
+    public Enemy setElementAndAIFromStrings(Dragon d) {
+        d.dragon.setElement(d.rawElement);
+        d.dragon.setAIBehavior(d.rawAI);
+        return d.dragon;
+    }
+
+    @Benchmark
+    public Enemy setElementAndAICodes(Dragon d) {
+        d.dragon.setElementCode(Element.FIRE);
+        d.dragon.setAIBehaviorCode(AIBehavior.DEFENSIVE);
+        return d.dragon;
+    }
+
+    @Benchmark
+    public boolean elementStringEquals(Dragon d) {
+        return d.dragon.getElement().equals("FIRE");
+    }
+
+    @Benchmark
+    public boolean elementTypeReference(Dragon d) {
+        return d.dragon.getElementType() == Element.FIRE;
+    }
+
+    @Benchmark
+    public Enemy registrySpawnCopyOnWrite(Dragon d) {
+        return d.registry.createFromTemplate("goblin");
+    }
+}
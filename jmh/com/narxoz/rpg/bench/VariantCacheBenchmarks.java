@@ -0,0 +1,135 @@
+package com.narxoz.rpg.bench;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.fire.FlameBreath;
+import com.narxoz.rpg.enemy.AIBehavior;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+import com.narxoz.rpg.prototype.Variant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Champion goblin (clone + multiplyStats + setAIBehavior + addAbility per spawn)
+ * vs createVariant() from the variant cache, then a designer-sized working set
+ * of variants cycling through a smaller LRU cache.
+ *
+ * Setup checks that both paths give the same enemy and fails the run if not.
+ *
+ * Run: gradle jmh -Pjmh.includes=VariantCacheBenchmarks
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VariantCacheBenchmarks {
+
+    @State(Scope.Thread)
+    public static class Champion {
+        EnemyRegistry registry;
+        Variant champion;
+
+        @Setup
+        public void setUp() {
+            registry = Fixtures.templates(EnemyRegistry.CloneMode.COPY_ON_WRITE, 4, 3, 8);
+            champion = champion();
+            if (!sameEnemy(manualChampion(registry), registry.createVariant(champion))) {
+                throw new IllegalStateException("Variant mismatch: manual and cached champion differ");
+            }
+        }
+    }
+
+    /**
+     * Working set larger than the cache: LRU keeps the hot variants.
+     */
+    @State(Scope.Thread)
+    public static class WorkingSet {
+        @Param({"400"})
+        int variants;
+
+        @Param({"256"})
+        int capacity;
+
+        Variant[] working;
+        EnemyRegistry lru;
+        final SplittableRandom random = new SplittableRandom(42);
+        int hot;
+
+        @Setup
+        public void setUp() {
+            working = new Variant[variants];
+            for (int i = 0; i < variants; i++) {
+                working[i] = Variant.builder((i % 2 == 0) ? "goblin" : "dragon")
+                        .multiplyStats(1.0 + i * 0.01)
+                        .build();
+            }
+            lru = Fixtures.templates(EnemyRegistry.CloneMode.COPY_ON_WRITE, 4, 3, 8);
+            lru.setVariantCacheCapacity(capacity);
+            hot = Math.max(1, variants / 4);
+        }
+    }
+
+    @Benchmark
+    public Enemy createFromTemplateThenMutate(Champion c) {
+        return manualChampion(c.registry);
+    }
+
+    @Benchmark
+    public Enemy createVariantCached(Champion c) {
+        return c.registry.createVariant(c.champion);
+    }
+
+    @Benchmark
+    public Enemy createVariantBuiltPerCall(Champion c) {
+        return c.registry.createVariant(champion());
+    }
+
+    @Benchmark
+    public Enemy createVariantHotWorkingSet(WorkingSet w) {
+        // 4 of 5 requests hit the first quarter of the variants
+        int index = (w.random.nextInt(5) != 0) ? w.random.nextInt(w.hot) : w.random.nextInt(w.variants);
+        return w.lru.createVariant(w.working[index]);
+    }
+
+    private static Variant champion() {
+        return Variant.builder("goblin")
+                .multiplyStats(5.0)
+                .setAIBehaviorCode(AIBehavior.TACTICAL)
+                .addAbility(new FlameBreath())
+                .build();
+    }
+
+    private static Enemy manualChampion(EnemyRegistry registry) {
+        Enemy e = registry.createFromTemplate("goblin");
+        e.multiplyStats(5.0);
+        e.setAIBehaviorCode(AIBehavior.TACTICAL);
+        e.addAbility(new FlameBreath());
+        return e;
+    }
+
+    private static boolean sameEnemy(Enemy a, Enemy b) {
+        if (a.getHealth() != b.getHealth() || a.getDamage() != b.getDamage()
+                || a.getDefense() != b.getDefense() || a.getSpeed() != b.getSpeed()
+                || !a.getName().equals(b.getName())
+                || a.getAIBehaviorType() != b.getAIBehaviorType()
+                || a.getElementType() != b.getElementType()
+                || a.abilityCount() != b.abilityCount()) {
+            return false;
+        }
+        for (int i = 0; i < a.abilityCount(); i++) {
+            Ability x = a.getAbility(i);
+            Ability y = b.getAbility(i);
+            if (x.getClass() != y.getClass() || x.getDamage() != y.getDamage()) {
+                return false;
+            }
+        }
+        return a.getPhases().equals(b.getPhases());
+    }
+}
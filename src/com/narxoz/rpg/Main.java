@@ -5,6 +5,7 @@ import com.narxoz.rpg.builder.BossEnemyBuilder;
 import com.narxoz.rpg.builder.EnemyDirector;
 import com.narxoz.rpg.combat.Ability;
 import com.narxoz.rpg.combat.fire.FlameBreath;
+import com.narxoz.rpg.enemy.AIBehavior;
 import com.narxoz.rpg.enemy.Enemy;
 import com.narxoz.rpg.factory.EnemyComponentFactory;
 import com.narxoz.rpg.factory.fire.FireComponentFactory;
@@ -52,7 +53,7 @@ public class Main {
                 .setDefense(260)
                 .setSpeed(55)
                 .setElement("FIRE")
-                .setAI(fireFactory.createAIBehavior())
+                .setAICode(fireFactory.createAIBehavior())
                 .setAbilities(fireFactory.createAbilities())
                 .setLootTable(fireFactory.createLootTable())
                 .addPhase(1, 50000)
@@ -67,7 +68,7 @@ public class Main {
         Enemy baseGoblin = new BasicEnemyBuilder()
                 .setName("Goblin Template")
                 .setElement("NONE")
-                .setAI(iceFactory.createAIBehavior())
+                .setAICode(iceFactory.createAIBehavior())
                 .setAbilities(iceFactory.createAbilities())
                 .setLootTable(iceFactory.createLootTable())
                 .build();
@@ -138,13 +139,13 @@ public class Main {
         // ---- Elemental variants from dragon template ----
         Enemy fireDragon = registry.createFromTemplate("dragon");
         fireDragon.setElement("FIRE");
-        fireDragon.setAIBehavior(fireFactory.createAIBehavior());
+        fireDragon.setAIBehaviorCode(fireFactory.createAIBehavior());
         fireDragon.setAbilities(fireFactory.createAbilities());
         fireDragon.setLootTable(fireFactory.createLootTable());
 
         Enemy iceDragon = registry.createFromTemplate("dragon");
         iceDragon.setElement("ICE");
-        iceDragon.setAIBehavior(iceFactory.createAIBehavior());
+        iceDragon.setAIBehaviorCode(iceFactory.createAIBehavior());
         iceDragon.setAbilities(iceFactory.createAbilities());
         iceDragon.setLootTable(iceFactory.createLootTable());
 
@@ -198,7 +199,7 @@ public class Main {
 // Используем Abstract Factory компоненты для Shadow-темы
         shadowSkeleton.setAbilities(shadowFactory.createAbilities());
         shadowSkeleton.setLootTable(shadowFactory.createLootTable());
-        shadowSkeleton.setAIBehavior(shadowFactory.createAIBehavior());
+        shadowSkeleton.setAIBehaviorCode(shadowFactory.createAIBehavior());
 
         System.out.println("\n-> Shadow Skeleton (1.5x + themed components)");
         shadowSkeleton.displayInfo();
@@ -245,7 +246,7 @@ public class Main {
 
     private static void showFactory(String title, EnemyComponentFactory factory) {
         System.out.println("[" + title + "]");
-        String ai = factory.createAIBehavior();
+        AIBehavior ai = factory.createAIBehavior();
         List<Ability> abilities = factory.createAbilities();
         LootTable loot = factory.createLootTable();
 
@@ -1,6 +1,8 @@
 package com.narxoz.rpg.builder;
 
 import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.enemy.AIBehavior;
+import com.narxoz.rpg.enemy.Element;
 import com.narxoz.rpg.enemy.Enemy;
 import com.narxoz.rpg.enemy.Goblin;
 import com.narxoz.rpg.loot.LootTable;
@@ -25,14 +27,14 @@ public class BasicEnemyBuilder implements EnemyBuilder {
     private int defense;
     private int speed;
 
-    private String element = "NONE";
-    private String aiBehavior = "BASIC";
+    private Element element = Element.NONE;
+    private AIBehavior aiBehavior = AIBehavior.BASIC;
 
-    private List<Ability> abilities = new ArrayList<>();
+    private final List<Ability> abilities = new ArrayList<>();
     private LootTable lootTable;
 
     // For basic enemies phases are ignored, but to satisfy interface we store them
-    private Map<Integer, Integer> phases = new HashMap<>();
+    private final Map<Integer, Integer> phases = new HashMap<>();
 
     // --- Fluent setters ---
     @Override
@@ -67,13 +69,25 @@ public class BasicEnemyBuilder implements EnemyBuilder {
 
     @Override
     public EnemyBuilder setElement(String element) {
-        this.element = element;
+        this.element = Element.parse(element);
+        return this;
+    }
+
+    @Override
+    public EnemyBuilder setElementCode(Element element) {
+        this.element = (element == null) ? Element.NONE : element;
         return this;
     }
 
     @Override
     public EnemyBuilder setAI(String aiBehavior) {
-        this.aiBehavior = aiBehavior;
+        this.aiBehavior = AIBehavior.parse(aiBehavior);
+        return this;
+    }
+
+    @Override
+    public EnemyBuilder setAICode(AIBehavior aiBehavior) {
+        this.aiBehavior = (aiBehavior == null) ? AIBehavior.AGGRESSIVE : aiBehavior;
         return this;
     }
 
@@ -87,7 +101,11 @@ public class BasicEnemyBuilder implements EnemyBuilder {
 
     @Override
     public EnemyBuilder setAbilities(List<Ability> abilities) {
-        this.abilities = (abilities != null) ? new ArrayList<>(abilities) : new ArrayList<>();
+        // reuse the builder's own list instead of allocating a new one
+        this.abilities.clear();
+        if (abilities != null) {
+            this.abilities.addAll(abilities);
+        }
         return this;
     }
 
@@ -111,6 +129,16 @@ public class BasicEnemyBuilder implements EnemyBuilder {
      */
     @Override
     public Enemy build() {
+        try {
+            return assemble();
+        } finally {
+            // reset builder for reuse, also when validation fails
+            // (a pooled builder must not leak half-configured state into the next build)
+            reset();
+        }
+    }
+
+    private Enemy assemble() {
         // --- Validation (required fields) ---
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalStateException("Enemy name is required");
@@ -128,8 +156,8 @@ public class BasicEnemyBuilder implements EnemyBuilder {
         // For cleaner code later we can add setters or a BasicEnemy class.
 
         // Element & AI
-        goblin.setElement(element);
-        goblin.setAIBehavior(aiBehavior);
+        goblin.setElementCode(element);
+        goblin.setAIBehaviorCode(aiBehavior);
 
         // Abilities
         for (Ability a : abilities) {
@@ -139,9 +167,6 @@ public class BasicEnemyBuilder implements EnemyBuilder {
         // Loot
         goblin.setLootTable(lootTable);
 
-        // reset builder for reuse (optional)
-        reset();
-
         return goblin;
     }
 
@@ -151,11 +176,12 @@ public class BasicEnemyBuilder implements EnemyBuilder {
         this.damage = 0;
         this.defense = 0;
         this.speed = 0;
-        this.element = "NONE";
-        this.aiBehavior = "BASIC";
-        this.abilities = new ArrayList<>();
+        this.element = Element.NONE;
+        this.aiBehavior = AIBehavior.BASIC;
+        // clear and keep the collections (builders are reused, e.g. by a pooled EnemyDirector)
+        this.abilities.clear();
         this.lootTable = null;
-        this.phases = new HashMap<>();
+        this.phases.clear();
     }
 }
 
@@ -1,7 +1,9 @@
 package com.narxoz.rpg.builder;
 
 import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.enemy.AIBehavior;
 import com.narxoz.rpg.enemy.DragonBoss;
+import com.narxoz.rpg.enemy.Element;
 import com.narxoz.rpg.enemy.Enemy;
 import com.narxoz.rpg.loot.LootTable;
 
@@ -25,14 +27,14 @@ public class BossEnemyBuilder implements EnemyBuilder {
     private int defense;
     private int speed;
 
-    private String element = "NONE";
-    private String aiBehavior = "BOSS";
+    private Element element = Element.NONE;
+    private AIBehavior aiBehavior = AIBehavior.BOSS;
 
-    private List<Ability> abilities = new ArrayList<>();
+    private final List<Ability> abilities = new ArrayList<>();
     private LootTable lootTable;
 
     // Boss phases: phase -> threshold
-    private Map<Integer, Integer> phases = new HashMap<>();
+    private final Map<Integer, Integer> phases = new HashMap<>();
 
     // Special boss properties (optional)
     private boolean canFly = true;
@@ -72,13 +74,25 @@ public class BossEnemyBuilder implements EnemyBuilder {
 
     @Override
     public EnemyBuilder setElement(String element) {
-        this.element = element;
+        this.element = Element.parse(element);
+        return this;
+    }
+
+    @Override
+    public EnemyBuilder setElementCode(Element element) {
+        this.element = (element == null) ? Element.NONE : element;
         return this;
     }
 
     @Override
     public EnemyBuilder setAI(String aiBehavior) {
-        this.aiBehavior = aiBehavior;
+        this.aiBehavior = AIBehavior.parse(aiBehavior);
+        return this;
+    }
+
+    @Override
+    public EnemyBuilder setAICode(AIBehavior aiBehavior) {
+        this.aiBehavior = (aiBehavior == null) ? AIBehavior.AGGRESSIVE : aiBehavior;
         return this;
     }
 
@@ -92,7 +106,11 @@ public class BossEnemyBuilder implements EnemyBuilder {
 
     @Override
     public EnemyBuilder setAbilities(List<Ability> abilities) {
-        this.abilities = (abilities != null) ? new ArrayList<>(abilities) : new ArrayList<>();
+        // reuse the builder's own list instead of allocating a new one
+        this.abilities.clear();
+        if (abilities != null) {
+            this.abilities.addAll(abilities);
+        }
         return this;
     }
 
@@ -130,6 +148,16 @@ public class BossEnemyBuilder implements EnemyBuilder {
      */
     @Override
     public Enemy build() {
+        try {
+            return assemble();
+        } finally {
+            // reset builder for reuse, also when validation fails
+            // (a pooled builder must not leak half-configured state into the next build)
+            reset();
+        }
+    }
+
+    private Enemy assemble() {
         // --- Validation (mandatory fields) ---
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalStateException("Boss name is required");
@@ -153,7 +181,7 @@ public class BossEnemyBuilder implements EnemyBuilder {
                 defense,
                 speed,
                 element,
-                new ArrayList<>(abilities), // list copy (abilities themselves are objects)
+                abilities, // DragonBoss copies the list, so the builder can clear and reuse it
                 p1, p2, p3,
                 lootTable,
                 aiBehavior,
@@ -163,10 +191,12 @@ public class BossEnemyBuilder implements EnemyBuilder {
         );
 
         // Keep any extra phases beyond 1..3 (if added)
-        boss.getPhases().putAll(phases);
-
-        // reset builder for reuse (optional)
-        reset();
+        // (getPhases() is a copy, so they go through addPhase)
+        for (Map.Entry<Integer, Integer> phase : phases.entrySet()) {
+            if (phase.getKey() > 3) {
+                boss.addPhase(phase.getKey(), phase.getValue());
+            }
+        }
 
         return boss;
     }
@@ -178,12 +208,13 @@ public class BossEnemyBuilder implements EnemyBuilder {
         this.defense = 0;
         this.speed = 0;
 
-        this.element = "NONE";
-        this.aiBehavior = "BOSS";
+        this.element = Element.NONE;
+        this.aiBehavior = AIBehavior.BOSS;
 
-        this.abilities = new ArrayList<>();
+        // clear and keep the collections (builders are reused, e.g. by a pooled EnemyDirector)
+        this.abilities.clear();
         this.lootTable = null;
-        this.phases = new HashMap<>();
+        this.phases.clear();
 
         this.canFly = true;
         this.hasBreathAttack = true;
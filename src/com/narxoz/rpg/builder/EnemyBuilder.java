@@ -1,6 +1,8 @@
 package com.narxoz.rpg.builder;
 
 import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.enemy.AIBehavior;
+import com.narxoz.rpg.enemy.Element;
 import com.narxoz.rpg.enemy.Enemy;
 import com.narxoz.rpg.loot.LootTable;
 
@@ -17,6 +19,14 @@ public interface EnemyBuilder {
     EnemyBuilder setElement(String element);
     EnemyBuilder setAI(String aiBehavior);
 
+    default EnemyBuilder setElementCode(Element element) {
+        return setElement((element == null) ? null : element.name());
+    }
+
+    default EnemyBuilder setAICode(AIBehavior aiBehavior) {
+        return setAI((aiBehavior == null) ? null : aiBehavior.name());
+    }
+
     EnemyBuilder addAbility(Ability ability);
     EnemyBuilder setAbilities(List<Ability> abilities);
 
@@ -1,8 +1,17 @@
 package com.narxoz.rpg.builder;
 
+import com.narxoz.rpg.enemy.Element;
 import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.EnemySnapshot;
+import com.narxoz.rpg.factory.ComponentBundle;
 import com.narxoz.rpg.factory.EnemyComponentFactory;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
 /**
  * Director = набор готовых "рецептов" создания врагов.
  *
@@ -12,87 +21,238 @@ import com.narxoz.rpg.factory.EnemyComponentFactory;
  * FACTORY METHOD DELEGATION:
  * Director вызывает builder.build() полиморфно, не зная,
  * какой конкретный Enemy будет создан (Goblin или DragonBoss).
+ *
+ * COMPILED RECIPES:
+ * результат рецепта зависит только от (recipe, factory), поэтому builder
+ * запускается один раз, а дальше director клонирует замороженный прототип.
  */
 public class EnemyDirector {
 
+    private enum Recipe {
+        MINION, ELITE, MINI_BOSS, RAID_BOSS
+    }
+
+    private static final Recipe[] RECIPES = Recipe.values();
+
+    // Либо один общий builder (обычный режим), либо пул builder'ов по потокам (pooled режим)
     private final EnemyBuilder builder;
+    private final ThreadLocal<EnemyBuilder> pool;
 
+    // factory -> замороженный результат каждого рецепта (индекс = Recipe.ordinal()).
+    // Ключ сравнивается по identity (==, не equals) и держится слабо, чтобы кэш не держал factory.
+    // Фабрик единицы, поэтому это copy-on-write массив: чтение без блокировок, запись под lock.
+    private volatile Compiled[] compiled = new Compiled[0];
+
+    /**
+     * Director с одним builder'ом.
+     * НЕ потокобезопасен: два потока будут гонять одни и те же поля builder'а.
+     */
     public EnemyDirector(EnemyBuilder builder) {
         this.builder = builder;
+        this.pool = null;
+    }
+
+    private EnemyDirector(ThreadLocal<EnemyBuilder> pool) {
+        this.builder = null;
+        this.pool = pool;
+    }
+
+    /**
+     * Pooled director для массовой генерации.
+     * Каждый поток берёт свой builder из thread-local пула и переиспользует его
+     * (build() очищает коллекции builder'а, а не создаёт новые),
+     * поэтому один director можно безопасно делить между потоками.
+     *
+     * Example: EnemyDirector.pooled(BasicEnemyBuilder::new)
+     */
+    public static EnemyDirector pooled(Supplier<? extends EnemyBuilder> builderFactory) {
+        if (builderFactory == null) {
+            throw new IllegalArgumentException("Builder factory cannot be null");
+        }
+        return new EnemyDirector(ThreadLocal.withInitial(builderFactory::get));
+    }
+
+    private EnemyBuilder builder() {
+        return (pool != null) ? pool.get() : builder;
     }
 
     /**
      * Minion = слабый враг (обычно без фаз, с минимумом статов).
      */
     public Enemy createMinion(EnemyComponentFactory factory) {
+        return spawn(Recipe.MINION, factory);
+    }
+
+    /**
+     * Elite = усиленный обычный враг (средняя сложность).
+     */
+    public Enemy createElite(EnemyComponentFactory factory) {
+        return spawn(Recipe.ELITE, factory);
+    }
+
+    /**
+     * MiniBoss = мини-босс (уже может иметь фазы).
+     */
+    public Enemy createMiniBoss(EnemyComponentFactory factory) {
+        return spawn(Recipe.MINI_BOSS, factory);
+    }
+
+    /**
+     * RaidBoss = самый сложный босс.
+     */
+    public Enemy createRaidBoss(EnemyComponentFactory factory) {
+        return spawn(Recipe.RAID_BOSS, factory);
+    }
+
+    /**
+     * Сбросить скомпилированные рецепты для factory
+     * (вызывать, если factory заменили или она стала выдавать другие компоненты).
+     */
+    public void invalidate(EnemyComponentFactory factory) {
+        if (factory == null) return;
+        synchronized (this) {
+            compiled = live(factory, null);
+        }
+    }
+
+    /**
+     * Сбросить все скомпилированные рецепты.
+     */
+    public void invalidateAll() {
+        synchronized (this) {
+            compiled = new Compiled[0];
+        }
+    }
+
+    // PROTOTYPE: первый вызов (recipe, factory) гоняет builder и замораживает результат
+    // в EnemySnapshot, все следующие — только instantiate() (copy-on-write клон).
+    private Enemy spawn(Recipe recipe, EnemyComponentFactory factory) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Factory cannot be null");
+        }
+        AtomicReferenceArray<EnemySnapshot> recipes = recipes(factory);
+        EnemySnapshot snapshot = recipes.get(recipe.ordinal());
+        if (snapshot == null) {
+            // два потока могут собрать одно и то же одновременно — результат одинаковый
+            snapshot = build(recipe, factory).snapshot();
+            recipes.set(recipe.ordinal(), snapshot);
+        }
+        return snapshot.instantiate();
+    }
+
+    private AtomicReferenceArray<EnemySnapshot> recipes(EnemyComponentFactory factory) {
+        for (Compiled entry : compiled) {
+            if (entry.get() == factory) return entry.recipes;
+        }
+        synchronized (this) {
+            for (Compiled entry : compiled) {
+                if (entry.get() == factory) return entry.recipes;
+            }
+            Compiled added = new Compiled(factory);
+            compiled = live(null, added);
+            return added.recipes;
+        }
+    }
+
+    // Новый массив без removed и без записей, чью factory уже собрал GC; added дописывается в конец.
+    private Compiled[] live(EnemyComponentFactory removed, Compiled added) {
+        List<Compiled> entries = new ArrayList<>(compiled.length + 1);
+        for (Compiled entry : compiled) {
+            EnemyComponentFactory factory = entry.get();
+            if (factory != null && factory != removed) entries.add(entry);
+        }
+        if (added != null) entries.add(added);
+        return entries.toArray(new Compiled[0]);
+    }
+
+    /**
+     * Скомпилированные рецепты одной factory; сама factory — слабая ссылка.
+     */
+    private static final class Compiled extends WeakReference<EnemyComponentFactory> {
+        private final AtomicReferenceArray<EnemySnapshot> recipes = new AtomicReferenceArray<>(RECIPES.length);
+
+        Compiled(EnemyComponentFactory factory) {
+            super(factory);
+        }
+    }
+
+    private Enemy build(Recipe recipe, EnemyComponentFactory factory) {
+        switch (recipe) {
+            case MINION:
+                return buildMinion(factory);
+            case ELITE:
+                return buildElite(factory);
+            case MINI_BOSS:
+                return buildMiniBoss(factory);
+            default:
+                return buildRaidBoss(factory);
+        }
+    }
+
+    private Enemy buildMinion(EnemyComponentFactory factory) {
         // FACTORY METHOD: builder.build() creates the Enemy product
-        return builder
+        ComponentBundle components = factory.getComponents();
+        return builder()
                 .setName("Minion")
                 .setHealth(60)
                 .setDamage(8)
                 .setDefense(3)
                 .setSpeed(30)
-                .setElement("NONE")
-                .setAI(factory.createAIBehavior())
-                .setAbilities(factory.createAbilities())
-                .setLootTable(factory.createLootTable())
+                .setElementCode(Element.NONE)
+                .setAICode(components.getAIBehavior())
+                .setAbilities(components.getAbilities())
+                .setLootTable(components.getLootTable())
                 .build();
     }
 
-    /**
-     * Elite = усиленный обычный враг (средняя сложность).
-     */
-    public Enemy createElite(EnemyComponentFactory factory) {
+    private Enemy buildElite(EnemyComponentFactory factory) {
         // FACTORY METHOD: builder.build() creates the Enemy product
-        return builder
+        ComponentBundle components = factory.getComponents();
+        return builder()
                 .setName("Elite")
                 .setHealth(200)
                 .setDamage(35)
                 .setDefense(20)
                 .setSpeed(25)
-                .setElement("NONE")
-                .setAI(factory.createAIBehavior())
-                .setAbilities(factory.createAbilities())
-                .setLootTable(factory.createLootTable())
+                .setElementCode(Element.NONE)
+                .setAICode(components.getAIBehavior())
+                .setAbilities(components.getAbilities())
+                .setLootTable(components.getLootTable())
                 .build();
     }
 
-    /**
-     * MiniBoss = мини-босс (уже может иметь фазы).
-     */
-    public Enemy createMiniBoss(EnemyComponentFactory factory) {
+    private Enemy buildMiniBoss(EnemyComponentFactory factory) {
         // FACTORY METHOD: builder.build() creates the Enemy product
-        return builder
+        ComponentBundle components = factory.getComponents();
+        return builder()
                 .setName("Mini Boss")
                 .setHealth(5000)
                 .setDamage(160)
                 .setDefense(80)
                 .setSpeed(40)
-                .setElement("NONE")
-                .setAI(factory.createAIBehavior())
-                .setAbilities(factory.createAbilities())
-                .setLootTable(factory.createLootTable())
+                .setElementCode(Element.NONE)
+                .setAICode(components.getAIBehavior())
+                .setAbilities(components.getAbilities())
+                .setLootTable(components.getLootTable())
                 .addPhase(1, 5000)
                 .addPhase(2, 3000)
                 .addPhase(3, 1500)
                 .build();
     }
 
-    /**
-     * RaidBoss = самый сложный босс.
-     */
-    public Enemy createRaidBoss(EnemyComponentFactory factory) {
+    private Enemy buildRaidBoss(EnemyComponentFactory factory) {
         // FACTORY METHOD: builder.build() creates the Enemy product
-        return builder
+        ComponentBundle components = factory.getComponents();
+        return builder()
                 .setName("Raid Boss")
                 .setHealth(50000)
                 .setDamage(500)
                 .setDefense(250)
                 .setSpeed(50)
-                .setElement("NONE")
-                .setAI(factory.createAIBehavior())
-                .setAbilities(factory.createAbilities())
-                .setLootTable(factory.createLootTable())
+                .setElementCode(Element.NONE)
+                .setAICode(components.getAIBehavior())
+                .setAbilities(components.getAbilities())
+                .setLootTable(components.getLootTable())
                 .addPhase(1, 50000)
                 .addPhase(2, 30000)
                 .addPhase(3, 15000)
@@ -1,11 +1,19 @@
 package com.narxoz.rpg.combat;
 
+import com.narxoz.rpg.enemy.Element;
+
 /**
  * Interface for all enemy abilities in the RPG system.
  *
  * Prototype Pattern Note:
  * Abilities must be DEEP-COPYABLE. When you clone an enemy,
  * its abilities must also be cloned (independent objects).
+ *
+ * Flyweight Note:
+ * Abilities whose every instance is identical (only constant fields) may
+ * opt in via isShareable() and return a shared canonical instance from
+ * clone() (see AbilityPool). Abilities with per-instance state must override
+ * isMutable() so they are always copied.
  */
 public interface Ability {
 
@@ -24,10 +32,63 @@ public interface Ability {
      */
     String getDescription();
 
+    /**
+     * @return element of the damage (interned; Element.NONE for physical)
+     */
+    default Element getElementType() {
+        return Element.NONE;
+    }
+
+    /**
+     * @return ticks before the same enemy can use it again (0 = no cooldown)
+     */
+    default int getCooldown() {
+        return 0;
+    }
+
+    /**
+     * @return ticks the effect (burn, slow, stealth, shield...) lasts on its target (0 = instant)
+     */
+    default int getEffectDuration() {
+        return 0;
+    }
+
+    /**
+     * @return damage the effect deals on each tick while it lasts (damage over time)
+     */
+    default int getDamagePerTick() {
+        return 0;
+    }
+
+    /**
+     * @return status the effect puts on its target, or null if none
+     */
+    default StatusEffect getStatusEffect() {
+        return null;
+    }
+
     /**
      * PROTOTYPE: Each ability must be clonable.
-     * This should return a NEW independent Ability instance.
+     * Mutable abilities return a NEW independent instance;
+     * shareable ones may return the shared flyweight (AbilityPool.intern(this)).
      */
     Ability clone();
-}
 
+    /**
+     * @return true if this ability carries per-instance state (cooldowns, charges)
+     *         and therefore must never be shared between enemies
+     */
+    default boolean isMutable() {
+        return false;
+    }
+
+    /**
+     * @return true if every instance of this exact class is interchangeable
+     *         (constant fields only), so AbilityPool may hand out one canonical
+     *         instance for the whole class. Abilities configured through their
+     *         constructor must leave this false.
+     */
+    default boolean isShareable() {
+        return false;
+    }
+}
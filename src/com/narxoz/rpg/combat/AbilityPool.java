@@ -0,0 +1,51 @@
+package com.narxoz.rpg.combat;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Flyweight pool for shareable abilities.
+ *
+ * Sharing is opt-in: only abilities reporting isShareable() (FlameBreath has
+ * only constant fields) are pooled, one canonical instance per class.
+ * Any other immutable ability is returned as-is, so a configured instance
+ * such as a custom bolt with its own damage is never swapped for another one
+ * of the same class. Stateful abilities (cooldowns, charges) must report
+ * isMutable() == true and are cloned instead of shared.
+ */
+public final class AbilityPool {
+
+    private static final ConcurrentMap<Class<? extends Ability>, Ability> CANONICAL =
+            new ConcurrentHashMap<>();
+
+    private AbilityPool() {
+    }
+
+    /**
+     * @return the shared canonical instance for a shareable ability,
+     *         an independent clone for a mutable one,
+     *         or the given instance itself otherwise
+     */
+    public static Ability intern(Ability ability) {
+        if (ability == null) return null;
+        if (ability.isMutable()) {
+            return ability.clone();
+        }
+        if (!ability.isShareable()) {
+            return ability;
+        }
+        Ability canonical = CANONICAL.get(ability.getClass());
+        if (canonical != null) {
+            return canonical;
+        }
+        Ability existing = CANONICAL.putIfAbsent(ability.getClass(), ability);
+        return (existing != null) ? existing : ability;
+    }
+
+    /**
+     * @return number of canonical instances currently pooled
+     */
+    public static int size() {
+        return CANONICAL.size();
+    }
+}
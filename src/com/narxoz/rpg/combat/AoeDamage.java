@@ -0,0 +1,113 @@
+package com.narxoz.rpg.combat;
+
+import com.narxoz.rpg.enemy.Element;
+
+import java.util.Arrays;
+
+/**
+ * Batch damage kernel: one ability (e.g. Flame Breath) hitting every target
+ * of a DamageBatch.
+ *
+ * Per target: damage = ability damage x ElementAffinity multiplier x 100 / (100 + defense),
+ * rounded; the HP is subtracted, and kills and boss phase changes are written
+ * to a DamageReport. The damage per (ability, target profile) is cached in the
+ * batch, so repeat hits on identical mobs skip the calculation and the loop
+ * over targets is integer-only.
+ *
+ * Not thread-safe (the cache lives in the batch).
+ */
+public final class AoeDamage {
+
+    private final ElementAffinity affinity;
+
+    public AoeDamage() {
+        this(ElementAffinity.DEFAULT);
+    }
+
+    public AoeDamage(ElementAffinity affinity) {
+        if (affinity == null) {
+            throw new IllegalArgumentException("Affinity cannot be null");
+        }
+        this.affinity = affinity;
+    }
+
+    public ElementAffinity getAffinity() {
+        return affinity;
+    }
+
+    /**
+     * Damage of one hit, for single-target code (same formula as apply()).
+     */
+    public int damage(Ability ability, Element defender, int defense) {
+        return damage(ability.getDamage(), ability.getElementType(), defender, defense);
+    }
+
+    private int damage(int base, Element attacker, Element defender, int defense) {
+        if (base <= 0) return 0;
+        double scaled = base * affinity.multiplier(attacker, defender);
+        return (int) (scaled * (100.0 / (100.0 + defense)) + 0.5);
+    }
+
+    /**
+     * Hits every target in the batch; dead targets (HP <= 0) are skipped.
+     */
+    public void apply(Ability ability, DamageBatch targets, DamageReport report) {
+        apply(ability, targets, 0, targets.size, report);
+    }
+
+    /**
+     * Hits targets [from, to) of the batch.
+     */
+    public void apply(Ability ability, DamageBatch targets, int from, int to, DamageReport report) {
+        if (from < 0 || to > targets.size || from > to) {
+            throw new IndexOutOfBoundsException("Targets [" + from + ", " + to + ") of " + targets.size);
+        }
+        report.reset(to - from);
+        if (ability.getDamage() <= 0) return;
+        int[] byProfile = damageByProfile(ability, targets);
+
+        int[] health = targets.health;
+        int[] profiles = targets.profiles;
+        int[] nextThresholds = targets.nextThresholds;
+        int[] killed = report.killedBuffer();
+        int kills = 0;
+        long dealt = 0;
+        for (int i = from; i < to; i++) {
+            int before = health[i];
+            if (before <= 0) continue;
+            int damage = byProfile[profiles[i]];
+            int after = before - damage;
+            health[i] = after;
+            dealt += Math.min(before, damage);
+            if (after <= 0) {
+                killed[kills++] = i;
+            } else if (after <= nextThresholds[i]) {
+                // rare: only on the hit that crosses a phase threshold
+                int phase = targets.phaseTables[i].currentPhase(after);
+                targets.phases[i] = phase;
+                nextThresholds[i] = targets.phaseTables[i].nextThreshold(after);
+                report.addPhaseChange(i, phase);
+            }
+        }
+        report.setKillCount(kills);
+        report.addDamage(dealt);
+    }
+
+    private int[] damageByProfile(Ability ability, DamageBatch targets) {
+        int base = ability.getDamage();
+        Element attacker = ability.getElementType();
+        DamageBatch.CachedDamage cached = targets.damageCache.get(ability);
+        if (cached == null || cached.affinity != affinity || cached.base != base || cached.element != attacker) {
+            cached = new DamageBatch.CachedDamage(affinity, base, attacker);
+            targets.damageCache.put(ability, cached);
+        }
+        int computed = cached.byProfile.length;
+        if (computed < targets.profileCount) {
+            cached.byProfile = Arrays.copyOf(cached.byProfile, targets.profileCount);
+            for (int p = computed; p < targets.profileCount; p++) {
+                cached.byProfile[p] = damage(base, attacker, targets.profileElements[p], targets.profileDefenses[p]);
+            }
+        }
+        return cached.byProfile;
+    }
+}
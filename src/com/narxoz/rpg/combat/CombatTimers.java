@@ -0,0 +1,317 @@
+package com.narxoz.rpg.combat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-enemy ability cooldowns and timed effects (burn, slow, stealth, shield...)
+ * for large fights, driven by a TimingWheel.
+ *
+ * Abilities stay shared definitions: their getCooldown(), getEffectDuration()
+ * and getDamagePerTick() are read once into this catalog. Enemies are int ids
+ * (e.g. EnemyStore rows); all per-enemy state is in primitive arrays indexed by
+ * enemy * abilityCount + ability:
+ *  - cooldowns: the tick the ability is ready again, compared on use (no timer)
+ *  - effects: a wheel timer per active (target, ability); re-applying refreshes it
+ *  - damage over time: a per-target damage rate, settled lazily, so a tick only
+ *    touches the effects that expire on it
+ *
+ * Usage per tick: use()/applyEffect() as enemies act, takeDotDamage() for the
+ * enemies being hit, then tick().
+ *
+ * Not thread-safe: one instance per combat/shard.
+ */
+public final class CombatTimers {
+
+    /**
+     * Called when an effect runs out (after its damage over time is settled).
+     */
+    @FunctionalInterface
+    public interface EffectListener {
+        void effectExpired(int target, int ability);
+    }
+
+    private static final int NONE = -1;
+
+    // Ability catalog
+    private final Ability[] abilities;
+    private final Map<Ability, Integer> abilityIds = new IdentityHashMap<>();
+    private final Map<Class<? extends Ability>, Integer> shareableIds = new HashMap<>();
+    private final int[] cooldowns;
+    private final int[] durations;
+    private final int[] damagePerTick;
+    private final int abilityCount;
+
+    // Per (enemy, ability)
+    private long[] readyAt;
+    private int[] effectTimers;
+
+    // Per enemy: damage over time = dotRate per tick since dotSettledAt, plus dotPending
+    private int[] dotRate;
+    private long[] dotSettledAt;
+    private long[] dotPending;
+    private int enemyCapacity;
+
+    private final TimingWheel wheel;
+    private EffectListener listener;
+    private final TimingWheel.Expiry onExpiry = this::expire;
+
+    /**
+     * @param abilities the ability definitions; ids are their positions in this list
+     * @throws IllegalArgumentException if the list is empty, holds null or the same instance twice
+     */
+    public CombatTimers(List<Ability> abilities, int expectedEnemies) {
+        if (abilities == null || abilities.isEmpty()) {
+            throw new IllegalArgumentException("Abilities cannot be null/empty");
+        }
+        abilityCount = abilities.size();
+        this.abilities = new Ability[abilityCount];
+        cooldowns = new int[abilityCount];
+        durations = new int[abilityCount];
+        damagePerTick = new int[abilityCount];
+        for (int i = 0; i < abilityCount; i++) {
+            Ability ability = abilities.get(i);
+            if (ability == null) {
+                throw new IllegalArgumentException("Ability cannot be null");
+            }
+            if (abilityIds.put(ability, i) != null) {
+                throw new IllegalArgumentException("Duplicate ability: " + ability.getName());
+            }
+            if (ability.isShareable()) {
+                shareableIds.putIfAbsent(ability.getClass(), i);
+            }
+            this.abilities[i] = ability;
+            cooldowns[i] = ability.getCooldown();
+            durations[i] = Math.min(ability.getEffectDuration(), TimingWheel.MAX_DELAY);
+            damagePerTick[i] = ability.getDamagePerTick();
+        }
+
+        enemyCapacity = Math.max(1, expectedEnemies);
+        readyAt = new long[enemyCapacity * abilityCount];
+        effectTimers = new int[enemyCapacity * abilityCount];
+        Arrays.fill(effectTimers, NONE);
+        dotRate = new int[enemyCapacity];
+        dotSettledAt = new long[enemyCapacity];
+        dotPending = new long[enemyCapacity];
+        wheel = new TimingWheel(expectedEnemies);
+    }
+
+    /**
+     * @return id of the ability: the position of this instance in the catalog,
+     *         or, for a shareable ability (like AbilityPool), of its class
+     * @throws IllegalArgumentException if it is not in the catalog
+     */
+    public int abilityId(Ability ability) {
+        Integer id = (ability == null) ? null : abilityIds.get(ability);
+        if (id == null && ability != null && ability.isShareable()) {
+            id = shareableIds.get(ability.getClass());
+        }
+        if (id == null) {
+            throw new IllegalArgumentException("Ability is not in the catalog: "
+                    + ((ability == null) ? null : ability.getName()));
+        }
+        return id;
+    }
+
+    public Ability getAbility(int ability) {
+        return abilities[ability];
+    }
+
+    public int abilityCount() {
+        return abilityCount;
+    }
+
+    /**
+     * @return current tick (starts at 0)
+     */
+    public long getTick() {
+        return wheel.getTick();
+    }
+
+    /**
+     * @return number of active effects
+     */
+    public int activeEffects() {
+        return wheel.size();
+    }
+
+    /**
+     * Receives every expired effect from now on (null = nobody).
+     */
+    public void setEffectListener(EffectListener listener) {
+        this.listener = listener;
+    }
+
+    // ----------------------------------------------------------------------
+    // Cooldowns
+    // ----------------------------------------------------------------------
+
+    public boolean isReady(int enemy, int ability) {
+        return enemy >= enemyCapacity || readyAt[index(enemy, ability)] <= wheel.getTick();
+    }
+
+    /**
+     * @return ticks until the ability is ready (0 = ready)
+     */
+    public int cooldownRemaining(int enemy, int ability) {
+        if (enemy >= enemyCapacity) return 0;
+        return (int) Math.max(0, readyAt[index(enemy, ability)] - wheel.getTick());
+    }
+
+    /**
+     * Starts the ability's cooldown for this enemy if it is ready.
+     * The effect is not applied here: call applyEffect() on each target.
+     *
+     * @return false (and nothing changes) if it is still on cooldown
+     */
+    public boolean use(int enemy, int ability) {
+        int i = index(enemy, ability);
+        ensureEnemy(enemy);
+        long now = wheel.getTick();
+        if (readyAt[i] > now) return false;
+        readyAt[i] = now + cooldowns[ability];
+        return true;
+    }
+
+    // ----------------------------------------------------------------------
+    // Effects and damage over time
+    // ----------------------------------------------------------------------
+
+    /**
+     * Starts the ability's effect on the target for getEffectDuration() ticks;
+     * if it is already active, the duration starts over (no stacking).
+     * Its damage per tick is dealt on each of the following ticks.
+     *
+     * @return false if the ability has no lasting effect
+     */
+    public boolean applyEffect(int target, int ability) {
+        int i = index(target, ability);
+        int duration = durations[ability];
+        if (duration <= 0) return false;
+        ensureEnemy(target);
+        int timer = effectTimers[i];
+        if (timer != NONE) {
+            wheel.reschedule(timer, duration);
+            return true;
+        }
+        if (damagePerTick[ability] != 0) {
+            settle(target);
+            dotRate[target] += damagePerTick[ability];
+        }
+        effectTimers[i] = wheel.schedule(duration, i);
+        return true;
+    }
+
+    /**
+     * applyEffect() on every target in targets[from, to).
+     */
+    public void applyEffect(int[] targets, int from, int to, int ability) {
+        for (int t = from; t < to; t++) {
+            applyEffect(targets[t], ability);
+        }
+    }
+
+    public boolean hasEffect(int target, int ability) {
+        return target < enemyCapacity && effectTimers[index(target, ability)] != NONE;
+    }
+
+    /**
+     * @return ticks the effect still lasts (0 = not active)
+     */
+    public int effectRemaining(int target, int ability) {
+        if (target >= enemyCapacity) return 0;
+        int timer = effectTimers[index(target, ability)];
+        return (timer == NONE) ? 0 : wheel.remaining(timer);
+    }
+
+    /**
+     * @return damage over time dealt per tick to the target right now
+     */
+    public int getDotRate(int target) {
+        return (target < enemyCapacity) ? dotRate[target] : 0;
+    }
+
+    /**
+     * Damage over time dealt to the target since the last call; the caller
+     * subtracts it from the enemy's health.
+     */
+    public long takeDotDamage(int target) {
+        if (target >= enemyCapacity) return 0;
+        settle(target);
+        long damage = dotPending[target];
+        dotPending[target] = 0;
+        return damage;
+    }
+
+    /**
+     * Forgets an enemy (e.g. dead, or its EnemyStore row is reused):
+     * cancels its effects and cooldowns without notifying the listener.
+     */
+    public void clear(int enemy) {
+        if (enemy >= enemyCapacity) return;
+        int base = enemy * abilityCount;
+        for (int a = 0; a < abilityCount; a++) {
+            int timer = effectTimers[base + a];
+            if (timer != NONE) {
+                wheel.cancel(timer);
+                effectTimers[base + a] = NONE;
+            }
+            readyAt[base + a] = 0;
+        }
+        dotRate[enemy] = 0;
+        dotPending[enemy] = 0;
+    }
+
+    /**
+     * Moves time forward one tick and ends the effects that run out on it.
+     *
+     * @return number of effects that expired
+     */
+    public int tick() {
+        return wheel.advance(onExpiry);
+    }
+
+    private void expire(int i) {
+        int target = i / abilityCount;
+        int ability = i - target * abilityCount;
+        effectTimers[i] = NONE;
+        if (damagePerTick[ability] != 0) {
+            settle(target);
+            dotRate[target] -= damagePerTick[ability];
+        }
+        if (listener != null) listener.effectExpired(target, ability);
+    }
+
+    private void settle(int target) {
+        long now = wheel.getTick();
+        if (dotRate[target] != 0) {
+            dotPending[target] += dotRate[target] * (now - dotSettledAt[target]);
+        }
+        dotSettledAt[target] = now;
+    }
+
+    private int index(int enemy, int ability) {
+        if (enemy < 0) {
+            throw new IllegalArgumentException("Enemy id cannot be negative: " + enemy);
+        }
+        if (ability < 0 || ability >= abilityCount) {
+            throw new IllegalArgumentException("Unknown ability id: " + ability);
+        }
+        return enemy * abilityCount + ability;
+    }
+
+    private void ensureEnemy(int enemy) {
+        if (enemy < enemyCapacity) return;
+        int capacity = Math.max(enemy + 1, enemyCapacity * 2);
+        readyAt = Arrays.copyOf(readyAt, capacity * abilityCount);
+        effectTimers = Arrays.copyOf(effectTimers, capacity * abilityCount);
+        Arrays.fill(effectTimers, enemyCapacity * abilityCount, capacity * abilityCount, NONE);
+        dotRate = Arrays.copyOf(dotRate, capacity);
+        dotSettledAt = Arrays.copyOf(dotSettledAt, capacity);
+        dotPending = Arrays.copyOf(dotPending, capacity);
+        enemyCapacity = capacity;
+    }
+}
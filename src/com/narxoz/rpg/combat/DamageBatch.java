@@ -0,0 +1,187 @@
+package com.narxoz.rpg.combat;
+
+import com.narxoz.rpg.enemy.Element;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.EnemyStore;
+import com.narxoz.rpg.enemy.PhaseTable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Combat state of a group of targets (e.g. the adds of a raid) in primitive
+ * columns, for AoeDamage: current HP, damage profile, phase table, current
+ * phase and the HP of the next phase change.
+ *
+ * A damage profile is what incoming damage depends on: (element, defense).
+ * Mobs spawned from one template share a profile, so AoeDamage computes an
+ * ability's damage once per profile and caches it here (per ability).
+ *
+ * Stats are read once when a target is added; HP then lives here, since Enemy
+ * has no health setter (write it back to an EnemyStore row with setHealth).
+ *
+ * Not thread-safe.
+ */
+public final class DamageBatch {
+
+    int[] health;
+    int[] profiles;         // index into the profile columns
+    PhaseTable[] phaseTables;
+    int[] phases;
+    int[] nextThresholds;   // PhaseTable.nextThreshold(health): phase changes at or below it
+    int size;
+
+    // Distinct (element, defense) pairs
+    private final Map<Long, Integer> profileIds = new HashMap<>();
+    Element[] profileElements = new Element[4];
+    int[] profileDefenses = new int[4];
+    int profileCount;
+
+    final Map<Ability, CachedDamage> damageCache = new IdentityHashMap<>();
+
+    public DamageBatch(int expectedTargets) {
+        int capacity = Math.max(1, expectedTargets);
+        health = new int[capacity];
+        profiles = new int[capacity];
+        phaseTables = new PhaseTable[capacity];
+        phases = new int[capacity];
+        nextThresholds = new int[capacity];
+    }
+
+    public static DamageBatch of(List<? extends Enemy> enemies) {
+        DamageBatch batch = new DamageBatch(enemies.size());
+        for (Enemy e : enemies) {
+            batch.add(e);
+        }
+        return batch;
+    }
+
+    /**
+     * @return target index
+     */
+    public int add(Enemy enemy) {
+        return add(enemy.getHealth(), enemy.getDefense(), enemy.getElementType(), enemy.getPhaseTable());
+    }
+
+    /**
+     * @return target index
+     */
+    public int add(EnemyStore store, int row) {
+        return add(store.getHealth(row), store.getDefense(row), store.getElement(row), store.getPhaseTable(row));
+    }
+
+    /**
+     * @return target index
+     * @throws IllegalArgumentException if defense is negative
+     */
+    public int add(int hp, int defense, Element element, PhaseTable phaseTable) {
+        if (defense < 0) {
+            throw new IllegalArgumentException("Defense cannot be negative: " + defense);
+        }
+        if (size == health.length) {
+            int capacity = size * 2;
+            health = Arrays.copyOf(health, capacity);
+            profiles = Arrays.copyOf(profiles, capacity);
+            phaseTables = Arrays.copyOf(phaseTables, capacity);
+            phases = Arrays.copyOf(phases, capacity);
+            nextThresholds = Arrays.copyOf(nextThresholds, capacity);
+        }
+        int i = size++;
+        PhaseTable table = (phaseTable == null) ? PhaseTable.EMPTY : phaseTable;
+        profiles[i] = profileOf((element == null) ? Element.NONE : element, defense);
+        phaseTables[i] = table;
+        setHealth(i, hp);
+        return i;
+    }
+
+    /**
+     * Sets the target's HP (e.g. heal or revive); its phase follows the new HP.
+     */
+    public void setHealth(int target, int hp) {
+        check(target);
+        health[target] = hp;
+        phases[target] = phaseTables[target].currentPhase(hp);
+        nextThresholds[target] = phaseTables[target].nextThreshold(hp);
+    }
+
+    public int getHealth(int target) {
+        check(target);
+        return health[target];
+    }
+
+    public boolean isAlive(int target) {
+        check(target);
+        return health[target] > 0;
+    }
+
+    /**
+     * @return current boss phase (0 if none reached)
+     */
+    public int getPhase(int target) {
+        check(target);
+        return phases[target];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return number of distinct (element, defense) profiles among the targets
+     */
+    public int profileCount() {
+        return profileCount;
+    }
+
+    /**
+     * Removes all targets, profiles and cached damage.
+     */
+    public void clear() {
+        Arrays.fill(phaseTables, 0, size, null);
+        size = 0;
+        profileIds.clear();
+        Arrays.fill(profileElements, 0, profileCount, null);
+        profileCount = 0;
+        damageCache.clear();
+    }
+
+    private int profileOf(Element element, int defense) {
+        Long key = ((long) element.ordinal() << 32) | (defense & 0xFFFFFFFFL);
+        Integer id = profileIds.get(key);
+        if (id != null) return id;
+        if (profileCount == profileElements.length) {
+            profileElements = Arrays.copyOf(profileElements, profileCount * 2);
+            profileDefenses = Arrays.copyOf(profileDefenses, profileCount * 2);
+        }
+        profileElements[profileCount] = element;
+        profileDefenses[profileCount] = defense;
+        profileIds.put(key, profileCount);
+        return profileCount++;
+    }
+
+    private void check(int target) {
+        if (target < 0 || target >= size) {
+            throw new IndexOutOfBoundsException("Target " + target + " of " + size);
+        }
+    }
+
+    /**
+     * Damage of one ability per profile, valid while the ability's damage and
+     * element and the affinity matrix stay the same; new profiles are filled lazily.
+     */
+    static final class CachedDamage {
+        final ElementAffinity affinity;
+        final int base;
+        final Element element;
+        int[] byProfile = new int[0];
+
+        CachedDamage(ElementAffinity affinity, int base, Element element) {
+            this.affinity = affinity;
+            this.base = base;
+            this.element = element;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.narxoz.rpg.combat;
+
+import java.util.Arrays;
+
+/**
+ * Outcome of one AoeDamage.apply(): damage dealt, targets killed and boss
+ * phase changes, as target indices of the DamageBatch.
+ *
+ * Reusable: each apply() overwrites it, so keep one per combat loop
+ * and nothing is allocated per hit.
+ */
+public final class DamageReport {
+
+    private long totalDamage;
+    private int[] killed = new int[16];
+    private int killCount;
+    private int[] phaseTargets = new int[16];
+    private int[] newPhases = new int[16];
+    private int phaseChangeCount;
+
+    /**
+     * @return HP actually removed (overkill not counted)
+     */
+    public long getTotalDamage() {
+        return totalDamage;
+    }
+
+    public int getKillCount() {
+        return killCount;
+    }
+
+    /**
+     * @return target index of the i-th kill
+     */
+    public int getKilled(int i) {
+        checkIndex(i, killCount);
+        return killed[i];
+    }
+
+    /**
+     * @return number of targets that entered a new boss phase (and survived)
+     */
+    public int getPhaseChangeCount() {
+        return phaseChangeCount;
+    }
+
+    public int getPhaseChangeTarget(int i) {
+        checkIndex(i, phaseChangeCount);
+        return phaseTargets[i];
+    }
+
+    /**
+     * @return phase the target is in now (may skip phases on a big hit)
+     */
+    public int getNewPhase(int i) {
+        checkIndex(i, phaseChangeCount);
+        return newPhases[i];
+    }
+
+    // ----------------------------------------------------------------------
+    // Written by AoeDamage
+    // ----------------------------------------------------------------------
+
+    void reset(int targets) {
+        totalDamage = 0;
+        killCount = 0;
+        phaseChangeCount = 0;
+        if (killed.length < targets) {
+            killed = new int[targets];
+        }
+    }
+
+    void addDamage(long damage) {
+        totalDamage += damage;
+    }
+
+    int[] killedBuffer() {
+        return killed;
+    }
+
+    void setKillCount(int count) {
+        killCount = count;
+    }
+
+    void addPhaseChange(int target, int phase) {
+        if (phaseChangeCount == phaseTargets.length) {
+            phaseTargets = Arrays.copyOf(phaseTargets, phaseChangeCount * 2);
+            newPhases = Arrays.copyOf(newPhases, phaseChangeCount * 2);
+        }
+        phaseTargets[phaseChangeCount] = target;
+        newPhases[phaseChangeCount] = phase;
+        phaseChangeCount++;
+    }
+
+    private static void checkIndex(int i, int count) {
+        if (i < 0 || i >= count) {
+            throw new IndexOutOfBoundsException("Index " + i + " of " + count);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DamageReport{damage=" + totalDamage + ", kills=" + killCount
+                + ", phaseChanges=" + phaseChangeCount + "}";
+    }
+}
@@ -0,0 +1,149 @@
+package com.narxoz.rpg.combat;
+
+import com.narxoz.rpg.enemy.Element;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * Elemental damage multipliers: attacker element x defender element,
+ * in a dense matrix indexed by Element ordinals (no string comparisons).
+ * Pairs that are not configured deal normal damage (1.0).
+ *
+ * Config (properties format), one pair per line:
+ * <pre>
+ *   # attacker.defender = multiplier
+ *   FIRE.ICE = 1.5
+ *   FIRE.FIRE = 0.5
+ * </pre>
+ * Element names go through Element.parse() (trimmed, upper-cased); unknown
+ * names are interned as new elements.
+ *
+ * Immutable: with() returns a new matrix.
+ */
+public final class ElementAffinity {
+
+    private static final String DEFAULT_CONFIG = String.join("\n",
+            "# fire and ice are strong against each other",
+            "FIRE.ICE = 1.5",
+            "ICE.FIRE = 1.5",
+            "# an element resists itself",
+            "FIRE.FIRE = 0.5",
+            "ICE.ICE = 0.5",
+            "SHADOW.SHADOW = 0.5");
+
+    /** Every pair 1.0. */
+    public static final ElementAffinity NEUTRAL = new ElementAffinity(0, new double[0]);
+
+    /** Fire and ice 1.5x against each other, an element 0.5x against itself. */
+    public static final ElementAffinity DEFAULT = parse(DEFAULT_CONFIG);
+
+    private final int size;             // elements known when the matrix was built
+    private final double[] multipliers; // [attacker * size + defender]
+
+    private ElementAffinity(int size, double[] multipliers) {
+        this.size = size;
+        this.multipliers = multipliers;
+    }
+
+    /**
+     * @throws IllegalArgumentException on a malformed line or multiplier
+     */
+    public static ElementAffinity parse(String config) {
+        try {
+            return load(new StringReader(config));
+        } catch (IOException e) {
+            throw new IllegalStateException("StringReader cannot fail", e);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException on a malformed line or multiplier
+     */
+    public static ElementAffinity load(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return load(reader);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException on a malformed line or multiplier
+     */
+    public static ElementAffinity load(Reader reader) throws IOException {
+        Properties config = new Properties();
+        config.load(reader);
+        ElementAffinity affinity = NEUTRAL;
+        for (String key : config.stringPropertyNames()) {
+            int dot = key.indexOf('.');
+            if (dot <= 0 || dot == key.length() - 1) {
+                throw new IllegalArgumentException("Expected attacker.defender, got: " + key);
+            }
+            String value = config.getProperty(key).trim();
+            double multiplier;
+            try {
+                multiplier = Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Bad multiplier for " + key + ": " + value);
+            }
+            affinity = affinity.with(Element.parse(key.substring(0, dot)),
+                    Element.parse(key.substring(dot + 1)), multiplier);
+        }
+        return affinity;
+    }
+
+    /**
+     * @return a copy with one pair changed
+     * @throws IllegalArgumentException if an element is null or the multiplier is negative/not finite
+     */
+    public ElementAffinity with(Element attacker, Element defender, double multiplier) {
+        if (attacker == null || defender == null) {
+            throw new IllegalArgumentException("Elements cannot be null");
+        }
+        if (!(multiplier >= 0) || Double.isInfinite(multiplier)) {
+            throw new IllegalArgumentException("Multiplier must be finite and >= 0: " + multiplier);
+        }
+        int newSize = Math.max(size, Math.max(attacker.ordinal(), defender.ordinal()) + 1);
+        double[] copy = new double[newSize * newSize];
+        Arrays.fill(copy, 1.0);
+        for (int a = 0; a < size; a++) {
+            System.arraycopy(multipliers, a * size, copy, a * newSize, size);
+        }
+        copy[attacker.ordinal() * newSize + defender.ordinal()] = multiplier;
+        return new ElementAffinity(newSize, copy);
+    }
+
+    public double multiplier(Element attacker, Element defender) {
+        return multiplier(attacker.ordinal(), defender.ordinal());
+    }
+
+    /**
+     * By Element ordinals; elements interned after this matrix was built get 1.0.
+     */
+    public double multiplier(int attacker, int defender) {
+        if (attacker >= size || defender >= size) return 1.0;
+        return multipliers[attacker * size + defender];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("ElementAffinity{");
+        String sep = "";
+        for (int a = 0; a < size; a++) {
+            for (int d = 0; d < size; d++) {
+                double m = multipliers[a * size + d];
+                if (m != 1.0) {
+                    sb.append(sep).append(Element.byOrdinal(a)).append('.').append(Element.byOrdinal(d))
+                            .append('=').append(m);
+                    sep = ", ";
+                }
+            }
+        }
+        return sb.append('}').toString();
+    }
+}
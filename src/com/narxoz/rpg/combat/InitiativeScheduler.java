@@ -0,0 +1,472 @@
+package com.narxoz.rpg.combat;
+
+import com.narxoz.rpg.enemy.Enemy;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Turn order for mass combat: every round each combatant acts once,
+ * fastest first; equal speeds keep the order of the previous round
+ * (first round: order of add()). Same order as a stable sort by speed every round.
+ *
+ * Speed is read from Enemy.getSpeed() on add() and refresh() (call it after
+ * multiplyStats); setSpeed() sets an effective speed instead, e.g. for a slow effect.
+ * A combatant that has not acted yet is reordered within the current round;
+ * one that has already acted moves in the next round's order.
+ *
+ * Layout: the round's order is a plain array and next() just advances a cursor,
+ * so an unchanged round costs O(n) with no comparisons. A combatant whose speed
+ * changes (or that is added) before acting leaves the array for a small indexed
+ * 4-ary heap, and next() takes the earlier of the two heads: O(log k) per change.
+ * At the end of a round only the k combatants that changed are sorted and merged
+ * back into the array: O(n + k log k) instead of a full re-sort.
+ *
+ * Not thread-safe: one scheduler per combat.
+ */
+public class InitiativeScheduler {
+
+    private static final int ARITY = 4;
+
+    // where a slot is
+    private static final byte FREE = 0;
+    private static final byte IN_ORDER = 1;  // order[tickets[slot]]; has acted if tickets[slot] < cursor
+    private static final byte IN_HEAP = 2;   // heap[heapIndex[slot]]; has not acted
+    private static final byte POPPED = 3;    // popped[heapIndex[slot]]; acted from the heap
+
+    // Slot arrays (index = slot id, reused after remove())
+    private Enemy[] enemies;
+    private int[] speeds;
+    private int[] tickets;      // position in order[] (new combatants: after the end); also the tie-break
+    private byte[] states;
+    private boolean[] moved;    // IN_ORDER, acted, then changed speed
+    private int[] heapIndex;    // index in heap[] (IN_HEAP) or popped[] (POPPED)
+
+    // Current round order (slot or -1 = left the array) and its read cursor
+    private int[] order;
+    private int[] nextOrder;
+    private int orderLength;
+    private int cursor;
+
+    // Acted from the heap this round, in acting order (slot or -1 = removed), with the cursor at that time
+    private int[] popped;
+    private int[] poppedCursor;
+    private int poppedLength;
+
+    // Acted from the array, then changed speed (may hold stale entries; moved[] decides)
+    private int[] movedSlots;
+    private int movedLength;
+
+    // Indexed 4-ary heap of IN_HEAP slots on (speed desc, ticket asc)
+    private int[] heap;
+    private int heapSize;
+
+    // Scratch for the round-end merge
+    private long[] mergeKeys;   // (MAX - speed) << 32 | rank
+    private int[] rankSlots;    // rank -> slot for the moved ones
+
+    private int[] freeSlots;
+    private int freeCount;
+    private int slotCount;
+
+    private final Map<Enemy, Integer> slotOf = new IdentityHashMap<>();
+    private int nextAddTicket;
+    private int round = 1;
+
+    public InitiativeScheduler() {
+        this(16);
+    }
+
+    public InitiativeScheduler(int expectedCombatants) {
+        int capacity = Math.max(1, expectedCombatants);
+        enemies = new Enemy[capacity];
+        speeds = new int[capacity];
+        tickets = new int[capacity];
+        states = new byte[capacity];
+        moved = new boolean[capacity];
+        heapIndex = new int[capacity];
+        order = new int[capacity];
+        nextOrder = new int[capacity];
+        popped = new int[capacity];
+        poppedCursor = new int[capacity];
+        movedSlots = new int[capacity];
+        heap = new int[capacity];
+        mergeKeys = new long[capacity];
+        rankSlots = new int[2 * capacity];
+        freeSlots = new int[capacity];
+    }
+
+    /**
+     * Adds a combatant; it acts in the current round, after combatants of the same speed.
+     *
+     * @throws IllegalArgumentException if the enemy is null or already scheduled
+     */
+    public void add(Enemy enemy) {
+        if (enemy == null) {
+            throw new IllegalArgumentException("Enemy cannot be null");
+        }
+        if (slotOf.containsKey(enemy)) {
+            throw new IllegalArgumentException("Enemy is already scheduled: " + enemy.getName());
+        }
+        int slot = allocateSlot();
+        enemies[slot] = enemy;
+        speeds[slot] = enemy.getSpeed();
+        tickets[slot] = nextAddTicket++;
+        moved[slot] = false;
+        slotOf.put(enemy, slot);
+        pushHeap(slot);
+    }
+
+    /**
+     * @return true if the enemy was scheduled
+     */
+    public boolean remove(Enemy enemy) {
+        Integer boxed = (enemy == null) ? null : slotOf.remove(enemy);
+        if (boxed == null) return false;
+        int slot = boxed;
+
+        switch (states[slot]) {
+            case IN_ORDER:
+                order[tickets[slot]] = -1;
+                break;
+            case IN_HEAP:
+                removeHeap(slot);
+                break;
+            default:
+                popped[heapIndex[slot]] = -1;
+                break;
+        }
+        states[slot] = FREE;
+        moved[slot] = false;
+        enemies[slot] = null;
+        freeSlots[freeCount++] = slot;
+        return true;
+    }
+
+    public boolean contains(Enemy enemy) {
+        return enemy != null && slotOf.containsKey(enemy);
+    }
+
+    /**
+     * Re-reads Enemy.getSpeed() (e.g. after multiplyStats) and reorders the combatant.
+     *
+     * @throws IllegalArgumentException if the enemy is not scheduled
+     */
+    public void refresh(Enemy enemy) {
+        setSpeed(enemy, slotOf(enemy), enemy.getSpeed());
+    }
+
+    /**
+     * Sets the effective speed used for ordering, without touching the enemy.
+     *
+     * @throws IllegalArgumentException if the enemy is not scheduled or the speed is negative
+     */
+    public void setSpeed(Enemy enemy, int speed) {
+        setSpeed(enemy, slotOf(enemy), speed);
+    }
+
+    private void setSpeed(Enemy enemy, int slot, int speed) {
+        if (speed < 0) {
+            throw new IllegalArgumentException("Speed cannot be negative: " + enemy.getName());
+        }
+        int old = speeds[slot];
+        if (old == speed) return;
+        speeds[slot] = speed;
+
+        switch (states[slot]) {
+            case IN_ORDER:
+                if (tickets[slot] >= cursor) {
+                    // not acted yet: leave the array, the ticket keeps its tie-break position
+                    order[tickets[slot]] = -1;
+                    pushHeap(slot);
+                } else if (!moved[slot]) {
+                    moved[slot] = true;
+                    if (movedLength == movedSlots.length) {
+                        movedSlots = Arrays.copyOf(movedSlots, movedLength * 2);
+                    }
+                    movedSlots[movedLength++] = slot;
+                }
+                break;
+            case IN_HEAP:
+                if (speed > old) {
+                    siftUp(heapIndex[slot]);
+                } else {
+                    siftDown(heapIndex[slot]);
+                }
+                break;
+            default:
+                break; // POPPED: re-sorted at round end anyway
+        }
+    }
+
+    /**
+     * @return effective speed used for ordering
+     */
+    public int getSpeed(Enemy enemy) {
+        return speeds[slotOf(enemy)];
+    }
+
+    private int slotOf(Enemy enemy) {
+        Integer slot = (enemy == null) ? null : slotOf.get(enemy);
+        if (slot == null) {
+            throw new IllegalArgumentException("Enemy is not scheduled");
+        }
+        return slot;
+    }
+
+    /**
+     * Next combatant to act. When everyone has acted, the next round starts.
+     *
+     * @return the combatant, or null if nobody is scheduled
+     */
+    public Enemy next() {
+        int fromOrder = orderHead();
+        if (heapSize == 0) {
+            if (fromOrder >= 0) {
+                cursor++;
+                return enemies[fromOrder];
+            }
+            if (slotOf.isEmpty()) return null;
+            startNextRound();
+            return next();
+        }
+        int fromHeap = heap[0];
+        if (fromOrder >= 0 && before(fromOrder, fromHeap)) {
+            cursor++;
+            return enemies[fromOrder];
+        }
+        removeHeap(fromHeap);
+        if (poppedLength == popped.length) {
+            // removed and re-added combatants can act twice in a round's bookkeeping
+            popped = Arrays.copyOf(popped, poppedLength * 2);
+            poppedCursor = Arrays.copyOf(poppedCursor, poppedLength * 2);
+        }
+        states[fromHeap] = POPPED;
+        heapIndex[fromHeap] = poppedLength;
+        popped[poppedLength] = fromHeap;
+        poppedCursor[poppedLength] = cursor;
+        poppedLength++;
+        return enemies[fromHeap];
+    }
+
+    /**
+     * @return the combatant next() would return, or null
+     */
+    public Enemy peek() {
+        int fromOrder = orderHead();
+        if (heapSize > 0 && (fromOrder < 0 || before(heap[0], fromOrder))) return enemies[heap[0]];
+        if (fromOrder >= 0) return enemies[fromOrder];
+        if (slotOf.isEmpty()) return null;
+        startNextRound();
+        return peek();
+    }
+
+    /**
+     * @return current round (starts at 1; moves on when next() or peek() passes the end of a round)
+     */
+    public int getRound() {
+        return round;
+    }
+
+    /**
+     * @return true if every combatant has acted in the current round
+     */
+    public boolean isRoundOver() {
+        return orderHead() < 0 && heapSize == 0;
+    }
+
+    public int size() {
+        return slotOf.size();
+    }
+
+    private int orderHead() {
+        while (cursor < orderLength) {
+            int slot = order[cursor];
+            if (slot >= 0) return slot;
+            cursor++;
+        }
+        return -1;
+    }
+
+    private boolean before(int a, int b) {
+        if (speeds[a] != speeds[b]) return speeds[a] > speeds[b];
+        return tickets[a] < tickets[b];
+    }
+
+    // ----------------------------------------------------------------------
+    // Round end: this round's acting order -> next round's order[]
+    // ----------------------------------------------------------------------
+
+    /**
+     * Acting rank of order[p]: p plus the heap pops before it (popped[j] has rank
+     * poppedCursor[j] + j). Unmoved array entries are already sorted by
+     * (speed desc, rank); the moved ones are sorted by that key and merged in.
+     */
+    private void startNextRound() {
+        if (mergeKeys.length < poppedLength + movedLength) {
+            mergeKeys = new long[poppedLength + movedLength];
+        }
+        if (rankSlots.length < orderLength + poppedLength) {
+            rankSlots = new int[orderLength + poppedLength];
+        }
+        int movedCount = 0;
+        for (int j = 0; j < poppedLength; j++) {
+            int slot = popped[j];
+            if (slot >= 0) {
+                movedCount = addMoved(slot, poppedCursor[j] + j, movedCount);
+            }
+        }
+        for (int i = 0; i < movedLength; i++) {
+            int slot = movedSlots[i];
+            // stale if removed (and maybe reused) since it was recorded
+            if (moved[slot] && states[slot] == IN_ORDER && order[tickets[slot]] == slot) {
+                int p = tickets[slot];
+                movedCount = addMoved(slot, p + popsUpTo(p), movedCount);
+            }
+        }
+        Arrays.sort(mergeKeys, 0, movedCount);
+
+        int[] out = nextOrder;
+        int length = 0;
+        int m = 0;
+        int j = 0;
+        for (int p = 0; p < orderLength; p++) {
+            int slot = order[p];
+            if (slot < 0 || moved[slot]) continue;
+            while (j < poppedLength && poppedCursor[j] <= p) j++;
+            int rank = p + j;
+            int speed = speeds[slot];
+            while (m < movedCount) {
+                int movedRank = (int) mergeKeys[m];
+                int movedSlot = rankSlots[movedRank];
+                int movedSpeed = speeds[movedSlot];
+                if (movedSpeed < speed || (movedSpeed == speed && movedRank > rank)) break;
+                length = place(out, movedSlot, length);
+                m++;
+            }
+            out[length] = slot;
+            tickets[slot] = length++;
+        }
+        while (m < movedCount) {
+            length = place(out, rankSlots[(int) mergeKeys[m++]], length);
+        }
+        // cleared only now: the loop above skips moved slots by this flag
+        for (int i = 0; i < movedLength; i++) {
+            moved[movedSlots[i]] = false;
+        }
+
+        nextOrder = order;
+        order = out;
+        orderLength = length;
+        cursor = 0;
+        poppedLength = 0;
+        movedLength = 0;
+        nextAddTicket = length;
+        round++;
+    }
+
+    private int addMoved(int slot, int rank, int count) {
+        // ranks are distinct acting positions, below orderLength + poppedLength
+        rankSlots[rank] = slot;
+        mergeKeys[count] = ((long) (Integer.MAX_VALUE - speeds[slot]) << 32) | rank;
+        return count + 1;
+    }
+
+    /**
+     * @return number of heap pops that acted before order[p]
+     */
+    private int popsUpTo(int p) {
+        int low = 0;
+        int high = poppedLength;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (poppedCursor[mid] <= p) low = mid + 1; else high = mid;
+        }
+        return low;
+    }
+
+    private int place(int[] out, int slot, int index) {
+        out[index] = slot;
+        tickets[slot] = index;
+        states[slot] = IN_ORDER;
+        return index + 1;
+    }
+
+    // ----------------------------------------------------------------------
+    // Indexed 4-ary heap of IN_HEAP slots
+    // ----------------------------------------------------------------------
+
+    private void pushHeap(int slot) {
+        states[slot] = IN_HEAP;
+        heap[heapSize] = slot;
+        heapIndex[slot] = heapSize;
+        heapSize++;
+        siftUp(heapSize - 1);
+    }
+
+    private void removeHeap(int slot) {
+        int index = heapIndex[slot];
+        int last = heap[--heapSize];
+        if (index != heapSize) {
+            heap[index] = last;
+            heapIndex[last] = index;
+            siftDown(index);
+            siftUp(heapIndex[last]);
+        }
+    }
+
+    private void siftUp(int index) {
+        int slot = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) / ARITY;
+            int parentSlot = heap[parent];
+            if (!before(slot, parentSlot)) break;
+            heap[index] = parentSlot;
+            heapIndex[parentSlot] = index;
+            index = parent;
+        }
+        heap[index] = slot;
+        heapIndex[slot] = index;
+    }
+
+    private void siftDown(int index) {
+        int slot = heap[index];
+        while (true) {
+            int first = index * ARITY + 1;
+            if (first >= heapSize) break;
+            int best = first;
+            int end = Math.min(first + ARITY, heapSize);
+            for (int child = first + 1; child < end; child++) {
+                if (before(heap[child], heap[best])) best = child;
+            }
+            int bestSlot = heap[best];
+            if (!before(bestSlot, slot)) break;
+            heap[index] = bestSlot;
+            heapIndex[bestSlot] = index;
+            index = best;
+        }
+        heap[index] = slot;
+        heapIndex[slot] = index;
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == enemies.length) {
+            int capacity = enemies.length * 2;
+            enemies = Arrays.copyOf(enemies, capacity);
+            speeds = Arrays.copyOf(speeds, capacity);
+            tickets = Arrays.copyOf(tickets, capacity);
+            states = Arrays.copyOf(states, capacity);
+            moved = Arrays.copyOf(moved, capacity);
+            heapIndex = Arrays.copyOf(heapIndex, capacity);
+            order = Arrays.copyOf(order, capacity);
+            nextOrder = Arrays.copyOf(nextOrder, capacity);
+            heap = Arrays.copyOf(heap, capacity);
+            freeSlots = Arrays.copyOf(freeSlots, capacity);
+        }
+        return slotCount++;
+    }
+}
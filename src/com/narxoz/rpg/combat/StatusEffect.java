@@ -0,0 +1,33 @@
+package com.narxoz.rpg.combat;
+
+/**
+ * Status effects the themed abilities put on their targets.
+ * A fixed set (at most 64): each one is a bit of StatusEffects' per-enemy mask.
+ */
+public enum StatusEffect {
+    BURN,     // Flame Breath
+    FREEZE,   // Frost Breath
+    BLIND,    // Shadow Strike
+    STEALTH,  // Vanish
+    SHIELD;   // Fire Shield, Ice Shield
+
+    private final long bit = 1L << ordinal();
+
+    /**
+     * @return this effect's bit in a status mask
+     */
+    public long bit() {
+        return bit;
+    }
+
+    /**
+     * @return mask with the bits of all given effects
+     */
+    public static long maskOf(StatusEffect... effects) {
+        long mask = 0;
+        for (StatusEffect effect : effects) {
+            mask |= effect.bit;
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,234 @@
+package com.narxoz.rpg.combat;
+
+import java.util.Arrays;
+
+/**
+ * Status effects (burn, freeze, stealth, shield...) of a large enemy population.
+ *
+ * Enemies are int ids (e.g. EnemyStore rows). Per enemy there is a long mask
+ * (bit = StatusEffect.bit()) and, per effect, an int column with the tick the
+ * effect ends. Queries read the mask only; tick() sweeps the masks, skips
+ * enemies without effects and checks the set bits' end ticks without branching
+ * on them. Nothing allocates.
+ *
+ * Effects last whole ticks: applied on tick t for d ticks, active until tick()
+ * reaches t + d. Re-applying keeps the later end (no stacking).
+ *
+ * For few long-lasting timers among many enemies CombatTimers (timing wheel)
+ * is cheaper per tick; this is for short, dense effects queried every turn.
+ *
+ * Not thread-safe: one instance per combat/shard.
+ */
+public final class StatusEffects {
+
+    private static final StatusEffect[] EFFECTS = StatusEffect.values();
+
+    private long[] masks;
+    private final int[][] endsAt = new int[EFFECTS.length][];
+    private int size;
+    private int now;
+
+    public StatusEffects(int enemies) {
+        if (enemies < 0) {
+            throw new IllegalArgumentException("Enemy count cannot be negative: " + enemies);
+        }
+        int capacity = Math.max(1, enemies);
+        masks = new long[capacity];
+        for (int k = 0; k < EFFECTS.length; k++) {
+            endsAt[k] = new int[capacity];
+        }
+        size = enemies;
+    }
+
+    /**
+     * @return number of enemy ids (0..size()-1)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds enemy ids up to count - 1, with no effects.
+     */
+    public void ensureSize(int count) {
+        if (count <= size) return;
+        if (count > masks.length) {
+            int capacity = Math.max(count, masks.length * 2);
+            masks = Arrays.copyOf(masks, capacity);
+            for (int k = 0; k < EFFECTS.length; k++) {
+                endsAt[k] = Arrays.copyOf(endsAt[k], capacity);
+            }
+        }
+        size = count;
+    }
+
+    /**
+     * @return current tick (starts at 0)
+     */
+    public int getTick() {
+        return now;
+    }
+
+    // ----------------------------------------------------------------------
+    // Queries
+    // ----------------------------------------------------------------------
+
+    public boolean has(int enemy, StatusEffect effect) {
+        return (masks[check(enemy)] & effect.bit()) != 0;
+    }
+
+    /**
+     * @return true if the enemy has at least one of the effects in the mask
+     */
+    public boolean hasAny(int enemy, long mask) {
+        return (masks[check(enemy)] & mask) != 0;
+    }
+
+    /**
+     * @return the enemy's active effects as a mask of StatusEffect bits
+     */
+    public long getMask(int enemy) {
+        return masks[check(enemy)];
+    }
+
+    /**
+     * @return ticks the effect still lasts (0 = not active)
+     */
+    public int remaining(int enemy, StatusEffect effect) {
+        int i = check(enemy);
+        return ((masks[i] & effect.bit()) == 0) ? 0 : endsAt[effect.ordinal()][i] - now;
+    }
+
+    /**
+     * Writes the ids of enemies having every effect in the mask into out.
+     *
+     * @return number of ids written
+     */
+    public int select(long mask, int[] out) {
+        int count = 0;
+        for (int e = 0; e < size && count < out.length; e++) {
+            out[count] = e;
+            count += ((masks[e] & mask) == mask) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * @return number of enemies with the effect
+     */
+    public int count(StatusEffect effect) {
+        long bit = effect.bit();
+        int count = 0;
+        for (int e = 0; e < size; e++) {
+            count += (int) ((masks[e] & bit) >>> effect.ordinal());
+        }
+        return count;
+    }
+
+    // ----------------------------------------------------------------------
+    // Apply / remove
+    // ----------------------------------------------------------------------
+
+    /**
+     * Puts the effect on the enemy for duration ticks (0 or less = nothing).
+     */
+    public void apply(int enemy, StatusEffect effect, int duration) {
+        int i = check(enemy);
+        if (duration <= 0) return;
+        int[] ends = endsAt[effect.ordinal()];
+        // inactive effects may hold an old end tick: only a live one is kept
+        int current = ((masks[i] & effect.bit()) != 0) ? ends[i] : now;
+        ends[i] = Math.max(current, endTick(duration));
+        masks[i] |= effect.bit();
+    }
+
+    /**
+     * Puts the ability's status effect on the enemy for its getEffectDuration().
+     *
+     * @return false if the ability has no status effect
+     */
+    public boolean apply(int enemy, Ability ability) {
+        StatusEffect effect = ability.getStatusEffect();
+        if (effect == null) return false;
+        apply(enemy, effect, ability.getEffectDuration());
+        return true;
+    }
+
+    /**
+     * Puts the effect on every enemy in targets[from, to), e.g. the targets of an AoE.
+     */
+    public void apply(int[] targets, int from, int to, StatusEffect effect, int duration) {
+        if (duration <= 0) return;
+        int[] ends = endsAt[effect.ordinal()];
+        long bit = effect.bit();
+        int end = endTick(duration);
+        for (int t = from; t < to; t++) {
+            int i = check(targets[t]);
+            long mask = masks[i];
+            // active: keep the later end; inactive: take the new one
+            ends[i] = ((mask & bit) != 0) ? Math.max(ends[i], end) : end;
+            masks[i] = mask | bit;
+        }
+    }
+
+    /**
+     * @return true if the enemy had the effect
+     */
+    public boolean remove(int enemy, StatusEffect effect) {
+        int i = check(enemy);
+        boolean had = (masks[i] & effect.bit()) != 0;
+        masks[i] &= ~effect.bit();
+        return had;
+    }
+
+    /**
+     * Removes every effect in the mask from every enemy in targets[from, to) (e.g. a cleanse).
+     */
+    public void remove(int[] targets, int from, int to, long mask) {
+        for (int t = from; t < to; t++) {
+            masks[check(targets[t])] &= ~mask;
+        }
+    }
+
+    /**
+     * Removes all effects of the enemy (e.g. dead, or its id is reused).
+     */
+    public void clear(int enemy) {
+        masks[check(enemy)] = 0;
+    }
+
+    /**
+     * Moves time forward one tick and ends the effects that run out on it.
+     *
+     * @return number of effects that ended
+     */
+    public int tick() {
+        int tick = ++now;
+        int ended = 0;
+        for (int e = 0; e < size; e++) {
+            long mask = masks[e];
+            if (mask == 0) continue;
+            long endedBits = 0;
+            for (long m = mask; m != 0; m &= m - 1) {
+                int k = Long.numberOfTrailingZeros(m);
+                // endsAt <= tick  ->  sign bit of (endsAt - tick - 1) set  ->  bit k ended
+                endedBits |= ((long) ((endsAt[k][e] - tick - 1) >>> 31)) << k;
+            }
+            ended += Long.bitCount(endedBits);
+            masks[e] = mask ^ endedBits;
+        }
+        return ended;
+    }
+
+    // now + duration, saturated: a very long effect lasts until Integer.MAX_VALUE instead of wrapping
+    private int endTick(int duration) {
+        return (int) Math.min((long) now + duration, Integer.MAX_VALUE);
+    }
+
+    private int check(int enemy) {
+        if (enemy < 0 || enemy >= size) {
+            throw new IllegalArgumentException("Unknown enemy id: " + enemy);
+        }
+        return enemy;
+    }
+}
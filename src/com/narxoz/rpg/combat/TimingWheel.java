@@ -0,0 +1,235 @@
+package com.narxoz.rpg.combat;
+
+import java.util.Arrays;
+
+/**
+ * Hierarchical timing wheel of int-payload timers, in whole ticks.
+ *
+ * Four levels of 64 buckets: level 0 holds timers due in the next 64 ticks,
+ * level 1 the next 64^2, and so on. advance() expires one level-0 bucket and,
+ * every 64 ticks, cascades one bucket of the level above down. Cost per tick is
+ * O(expired) plus the cascades (each timer moves down at most 3 times), no
+ * matter how many timers are pending. schedule, reschedule and cancel are O(1).
+ *
+ * Timers live in primitive arrays (intrusive doubly-linked bucket lists);
+ * handles are reused after a timer fires or is cancelled.
+ *
+ * Not thread-safe.
+ */
+public final class TimingWheel {
+
+    /**
+     * Called for each timer that fires; may schedule or cancel other timers.
+     */
+    @FunctionalInterface
+    public interface Expiry {
+        void expired(int payload);
+    }
+
+    private static final int LEVEL_BITS = 6;
+    private static final int SLOTS = 1 << LEVEL_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    /** Longest delay accepted by schedule(): 64^4 - 1 ticks. */
+    public static final int MAX_DELAY = (1 << (LEVEL_BITS * LEVELS)) - 1;
+
+    private static final int NONE = -1;
+
+    private final int[] bucketHead = new int[SLOTS * LEVELS];
+
+    // Per timer handle
+    private long[] expiry;
+    private int[] payloads;
+    private int[] next;
+    private int[] prev;
+    private int[] bucket;   // bucket index, or NONE if the handle is free
+
+    private int freeHead = NONE;
+    private int handleCount;
+    private int pending;
+    private long now;
+
+    public TimingWheel() {
+        this(64);
+    }
+
+    public TimingWheel(int expectedTimers) {
+        int capacity = Math.max(1, expectedTimers);
+        expiry = new long[capacity];
+        payloads = new int[capacity];
+        next = new int[capacity];
+        prev = new int[capacity];
+        bucket = new int[capacity];
+        Arrays.fill(bucketHead, NONE);
+    }
+
+    /**
+     * @return current tick (starts at 0)
+     */
+    public long getTick() {
+        return now;
+    }
+
+    /**
+     * @return number of timers not yet fired or cancelled
+     */
+    public int size() {
+        return pending;
+    }
+
+    /**
+     * Starts a timer that fires on the advance() that reaches getTick() + delay.
+     *
+     * @return handle for reschedule()/cancel(), valid until the timer fires or is cancelled
+     * @throws IllegalArgumentException if delay is not in 1..MAX_DELAY
+     */
+    public int schedule(int delay, int payload) {
+        checkDelay(delay);
+        int handle = allocate();
+        payloads[handle] = payload;
+        expiry[handle] = now + delay;
+        insert(handle);
+        pending++;
+        return handle;
+    }
+
+    /**
+     * Moves a pending timer to fire getTick() + delay instead.
+     *
+     * @throws IllegalArgumentException if the handle is not pending or delay is not in 1..MAX_DELAY
+     */
+    public void reschedule(int handle, int delay) {
+        checkDelay(delay);
+        checkPending(handle);
+        unlink(handle);
+        expiry[handle] = now + delay;
+        insert(handle);
+    }
+
+    /**
+     * @return true if the timer was pending (it will not fire)
+     */
+    public boolean cancel(int handle) {
+        if (handle < 0 || handle >= handleCount || bucket[handle] == NONE) return false;
+        unlink(handle);
+        release(handle);
+        return true;
+    }
+
+    /**
+     * @return ticks until the timer fires
+     * @throws IllegalArgumentException if the handle is not pending
+     */
+    public int remaining(int handle) {
+        checkPending(handle);
+        return (int) (expiry[handle] - now);
+    }
+
+    /**
+     * Moves time forward one tick and fires the timers due on it.
+     *
+     * @param listener notified per fired timer, in no particular order (may be null)
+     * @return number of timers fired
+     */
+    public int advance(Expiry listener) {
+        now++;
+        // cascade: a level-L bucket comes due every 64^L ticks
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = LEVEL_BITS * level;
+            if ((now & ((1L << shift) - 1)) != 0) break;
+            cascade(level * SLOTS + (int) ((now >>> shift) & SLOT_MASK));
+        }
+
+        int index = (int) (now & SLOT_MASK);
+        int fired = 0;
+        int handle;
+        // one at a time: the listener may cancel timers in this bucket
+        while ((handle = bucketHead[index]) != NONE) {
+            unlink(handle);
+            int payload = payloads[handle];
+            release(handle);
+            fired++;
+            if (listener != null) listener.expired(payload);
+        }
+        return fired;
+    }
+
+    private void cascade(int index) {
+        int handle = bucketHead[index];
+        bucketHead[index] = NONE;
+        while (handle != NONE) {
+            int following = next[handle];
+            insert(handle);
+            handle = following;
+        }
+    }
+
+    private void insert(int handle) {
+        long due = expiry[handle];
+        long delta = due - now;
+        int index;
+        if (delta < SLOTS) {
+            index = (int) (due & SLOT_MASK);
+        } else if (delta < 1L << (LEVEL_BITS * 2)) {
+            index = SLOTS + (int) ((due >>> LEVEL_BITS) & SLOT_MASK);
+        } else if (delta < 1L << (LEVEL_BITS * 3)) {
+            index = 2 * SLOTS + (int) ((due >>> (LEVEL_BITS * 2)) & SLOT_MASK);
+        } else {
+            index = 3 * SLOTS + (int) ((due >>> (LEVEL_BITS * 3)) & SLOT_MASK);
+        }
+        int head = bucketHead[index];
+        next[handle] = head;
+        prev[handle] = NONE;
+        if (head != NONE) prev[head] = handle;
+        bucketHead[index] = handle;
+        bucket[handle] = index;
+    }
+
+    private void unlink(int handle) {
+        int before = prev[handle];
+        int after = next[handle];
+        if (before != NONE) {
+            next[before] = after;
+        } else {
+            bucketHead[bucket[handle]] = after;
+        }
+        if (after != NONE) prev[after] = before;
+    }
+
+    private int allocate() {
+        if (freeHead != NONE) {
+            int handle = freeHead;
+            freeHead = next[handle];
+            return handle;
+        }
+        if (handleCount == expiry.length) {
+            int capacity = handleCount * 2;
+            expiry = Arrays.copyOf(expiry, capacity);
+            payloads = Arrays.copyOf(payloads, capacity);
+            next = Arrays.copyOf(next, capacity);
+            prev = Arrays.copyOf(prev, capacity);
+            bucket = Arrays.copyOf(bucket, capacity);
+        }
+        return handleCount++;
+    }
+
+    private void release(int handle) {
+        bucket[handle] = NONE;
+        next[handle] = freeHead;
+        freeHead = handle;
+        pending--;
+    }
+
+    private void checkPending(int handle) {
+        if (handle < 0 || handle >= handleCount || bucket[handle] == NONE) {
+            throw new IllegalArgumentException("Timer is not pending: " + handle);
+        }
+    }
+
+    private static void checkDelay(int delay) {
+        if (delay < 1 || delay > MAX_DELAY) {
+            throw new IllegalArgumentException("Delay must be 1.." + MAX_DELAY + " ticks: " + delay);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.narxoz.rpg.combat.fire;
 import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.AbilityPool;
+import com.narxoz.rpg.combat.StatusEffect;
+import com.narxoz.rpg.enemy.Element;
 
 /**
  * Fire-themed defensive ability.
@@ -32,11 +35,36 @@ public class FireShield implements Ability {
         return description;
     }
 
+    @Override
+    public Element getElementType() {
+        return Element.FIRE;
+    }
+
+    @Override
+    public int getCooldown() {
+        return 6;
+    }
+
+    @Override
+    public int getEffectDuration() {
+        return 3; // shield
+    }
+
+    @Override
+    public StatusEffect getStatusEffect() {
+        return StatusEffect.SHIELD;
+    }
+
+    @Override
+    public boolean isShareable() {
+        return true;
+    }
+
     /**
-     * Prototype pattern — deep copy of ability.
+     * Prototype pattern — stateless ability, so the copy is the shared flyweight.
      */
     @Override
     public Ability clone() {
-        return new FireShield();
+        return AbilityPool.intern(this);
     }
 }
@@ -1,6 +1,9 @@
 package com.narxoz.rpg.combat.fire;
 
 import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.AbilityPool;
+import com.narxoz.rpg.combat.StatusEffect;
+import com.narxoz.rpg.enemy.Element;
 
 /**
  * Fire-themed damage ability.
@@ -33,11 +36,41 @@ public class FlameBreath implements Ability {
         return description;
     }
 
+    @Override
+    public Element getElementType() {
+        return Element.FIRE;
+    }
+
+    @Override
+    public int getCooldown() {
+        return 4;
+    }
+
+    @Override
+    public int getEffectDuration() {
+        return 3; // burn
+    }
+
+    @Override
+    public StatusEffect getStatusEffect() {
+        return StatusEffect.BURN;
+    }
+
+    @Override
+    public int getDamagePerTick() {
+        return 20;
+    }
+
+    @Override
+    public boolean isShareable() {
+        return true;
+    }
+
     /**
-     * Prototype pattern — deep copy of ability.
+     * Prototype pattern — stateless ability, so the copy is the shared flyweight.
      */
     @Override
     public Ability clone() {
-        return new FlameBreath();
+        return AbilityPool.intern(this);
     }
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package com.narxoz.rpg.combat.ice;
 import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.AbilityPool;
+import com.narxoz.rpg.combat.StatusEffect;
+import com.narxoz.rpg.enemy.Element;
 
 /**
  * Ice-themed damage ability.
@@ -32,8 +35,33 @@ public class FrostBreath implements Ability {
         return description;
     }
 
+    @Override
+    public Element getElementType() {
+        return Element.ICE;
+    }
+
+    @Override
+    public int getCooldown() {
+        return 4;
+    }
+
+    @Override
+    public int getEffectDuration() {
+        return 2; // slow
+    }
+
+    @Override
+    public StatusEffect getStatusEffect() {
+        return StatusEffect.FREEZE;
+    }
+
+    @Override
+    public boolean isShareable() {
+        return true;
+    }
+
     @Override
     public Ability clone() {
-        return new FrostBreath();
+        return AbilityPool.intern(this);
     }
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package com.narxoz.rpg.combat.ice;
 import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.AbilityPool;
+import com.narxoz.rpg.combat.StatusEffect;
+import com.narxoz.rpg.enemy.Element;
 
 /**
  * Ice-themed defensive ability.
@@ -32,8 +35,33 @@ public class IceShield implements Ability {
         return description;
     }
 
+    @Override
+    public Element getElementType() {
+        return Element.ICE;
+    }
+
+    @Override
+    public int getCooldown() {
+        return 6;
+    }
+
+    @Override
+    public int getEffectDuration() {
+        return 3; // shield
+    }
+
+    @Override
+    public StatusEffect getStatusEffect() {
+        return StatusEffect.SHIELD;
+    }
+
+    @Override
+    public boolean isShareable() {
+        return true;
+    }
+
     @Override
     public Ability clone() {
-        return new IceShield();
+        return AbilityPool.intern(this);
     }
 }
@@ -1,5 +1,8 @@
 package com.narxoz.rpg.combat.shadow;
 import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.AbilityPool;
+import com.narxoz.rpg.combat.StatusEffect;
+import com.narxoz.rpg.enemy.Element;
 
 /**
  * Shadow-themed single-target damage ability.
@@ -32,8 +35,33 @@ public class ShadowStrike implements Ability {
         return description;
     }
 
+    @Override
+    public Element getElementType() {
+        return Element.SHADOW;
+    }
+
+    @Override
+    public int getCooldown() {
+        return 3;
+    }
+
+    @Override
+    public int getEffectDuration() {
+        return 2; // blind
+    }
+
+    @Override
+    public StatusEffect getStatusEffect() {
+        return StatusEffect.BLIND;
+    }
+
+    @Override
+    public boolean isShareable() {
+        return true;
+    }
+
     @Override
     public Ability clone() {
-        return new ShadowStrike();
+        return AbilityPool.intern(this);
     }
 }
@@ -1,5 +1,8 @@
 package com.narxoz.rpg.combat.shadow;
 import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.AbilityPool;
+import com.narxoz.rpg.combat.StatusEffect;
+import com.narxoz.rpg.enemy.Element;
 
 /**
  * Shadow-themed evasive/stealth ability.
@@ -32,8 +35,33 @@ public class Vanish implements Ability {
         return description;
     }
 
+    @Override
+    public Element getElementType() {
+        return Element.SHADOW;
+    }
+
+    @Override
+    public int getCooldown() {
+        return 8;
+    }
+
+    @Override
+    public int getEffectDuration() {
+        return 2; // stealth
+    }
+
+    @Override
+    public StatusEffect getStatusEffect() {
+        return StatusEffect.STEALTH;
+    }
+
+    @Override
+    public boolean isShareable() {
+        return true;
+    }
+
     @Override
     public Ability clone() {
-        return new Vanish();
+        return AbilityPool.intern(this);
     }
 }
\ No newline at end of file
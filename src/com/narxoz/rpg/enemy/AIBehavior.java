@@ -0,0 +1,72 @@
+package com.narxoz.rpg.enemy;
+
+/**
+ * AI behavior of an enemy ("AGGRESSIVE", "DEFENSIVE", ...), interned: one instance
+ * per name, so AI dispatch can switch on identity instead of comparing strings.
+ *
+ * Like Element, the set is open: unknown behaviors are interned on first use.
+ */
+public final class AIBehavior {
+
+    private static final CodeTable<AIBehavior> CODES = new CodeTable<>(AIBehavior::new);
+
+    public static final AIBehavior AGGRESSIVE = CODES.of("AGGRESSIVE");
+    public static final AIBehavior DEFENSIVE = CODES.of("DEFENSIVE");
+    public static final AIBehavior TACTICAL = CODES.of("TACTICAL");
+    public static final AIBehavior BASIC = CODES.of("BASIC");
+    public static final AIBehavior BOSS = CODES.of("BOSS");
+
+    private final String name;
+    private final int ordinal;
+
+    private AIBehavior(String name, int ordinal) {
+        this.name = name;
+        this.ordinal = ordinal;
+    }
+
+    /**
+     * Behavior with exactly this name (no trimming / upper-casing).
+     */
+    public static AIBehavior of(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("AI behavior name cannot be null");
+        }
+        return CODES.of(name);
+    }
+
+    /**
+     * Compatibility layer for string input: trims and upper-cases
+     * (cached per input string). Null or blank means AGGRESSIVE.
+     */
+    public static AIBehavior parse(String value) {
+        return CODES.parse(value, AGGRESSIVE);
+    }
+
+    public static AIBehavior parse(String value, AIBehavior fallback) {
+        return CODES.parse(value, fallback);
+    }
+
+    /**
+     * @return number of behaviors interned so far (ordinals are 0..count()-1)
+     */
+    public static int count() {
+        return CODES.size();
+    }
+
+    public static AIBehavior byOrdinal(int ordinal) {
+        return CODES.byOrdinal(ordinal);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int ordinal() {
+        return ordinal;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,77 @@
+package com.narxoz.rpg.enemy;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * Interning table behind Element and AIBehavior.
+ *
+ * Every distinct name gets exactly one instance with a dense ordinal
+ * (0, 1, 2, ...), so equal codes are the same object and can be compared
+ * with ==. The set is open: unknown names from configs are accepted and
+ * interned on first use.
+ *
+ * parse() caches raw input -> code, so repeated "  fire " strings skip
+ * trim()/toUpperCase() after the first time.
+ */
+final class CodeTable<T> {
+
+    // raw inputs are caller-controlled; stop caching new ones past this size
+    private static final int MAX_CACHED_INPUTS = 1024;
+
+    private final BiFunction<String, Integer, T> factory;
+    private final ConcurrentHashMap<String, T> byName = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, T> parsed = new ConcurrentHashMap<>();
+    private volatile Object[] byOrdinal = new Object[0];
+
+    CodeTable(BiFunction<String, Integer, T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * @return the code with exactly this name (no normalization)
+     */
+    T of(String name) {
+        T code = byName.get(name);
+        if (code != null) return code;
+        synchronized (this) {
+            code = byName.get(name);
+            if (code == null) {
+                Object[] codes = byOrdinal;
+                code = factory.apply(name, codes.length);
+                Object[] grown = Arrays.copyOf(codes, codes.length + 1);
+                grown[codes.length] = code;
+                byOrdinal = grown;
+                byName.put(name, code);
+            }
+            return code;
+        }
+    }
+
+    /**
+     * Trims and upper-cases the input; null or blank yields {@code fallback}.
+     */
+    T parse(String raw, T fallback) {
+        if (raw == null) return fallback;
+        T code = parsed.get(raw);
+        if (code != null) return code;
+
+        String trimmed = raw.trim();
+        if (trimmed.isEmpty()) return fallback; // fallback differs per caller, do not cache
+        code = of(trimmed.toUpperCase());
+        if (parsed.size() < MAX_CACHED_INPUTS) {
+            parsed.put(raw, code);
+        }
+        return code;
+    }
+
+    @SuppressWarnings("unchecked")
+    T byOrdinal(int ordinal) {
+        return (T) byOrdinal[ordinal];
+    }
+
+    int size() {
+        return byOrdinal.length;
+    }
+}
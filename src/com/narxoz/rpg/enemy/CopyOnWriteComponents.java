@@ -0,0 +1,157 @@
+package com.narxoz.rpg.enemy;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.loot.LootTable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Holder for the component collections of an enemy (abilities, phases, loot).
+ *
+ * Prototype (copy-on-write mode):
+ * share() hands the SAME collections to a clone and marks both holders as shared.
+ * The first mutating call on either side copies that collection privately,
+ * so template and clone stay independent while most clones never copy at all.
+ *
+ * Loot tables and immutable abilities are treated as values while shared
+ * (the built-in ones expose no mutators). Lists holding mutable abilities
+ * (Ability.isMutable()) are copied eagerly instead of shared.
+ * Phases are an immutable PhaseTable, so they never need copying.
+ */
+final class CopyOnWriteComponents {
+
+    private List<Ability> abilities;
+    private List<Ability> abilitiesView; // cached read-only view of 'abilities'
+    private PhaseTable phases; // phase -> hp threshold (immutable)
+    private LootTable lootTable;
+
+    private boolean abilitiesShared;
+
+    CopyOnWriteComponents() {
+        this(new ArrayList<>(), PhaseTable.EMPTY, null, false);
+    }
+
+    /**
+     * Takes ownership of the given abilities list (no copy here).
+     */
+    CopyOnWriteComponents(List<Ability> abilities, PhaseTable phases, LootTable lootTable) {
+        this(abilities, phases, lootTable, false);
+    }
+
+    /**
+     * Components that are shared from the start, e.g. the frozen collections of an EnemySnapshot.
+     */
+    static CopyOnWriteComponents shared(List<Ability> abilities, PhaseTable phases, LootTable lootTable) {
+        return new CopyOnWriteComponents(abilities, phases, lootTable, true);
+    }
+
+    private CopyOnWriteComponents(List<Ability> abilities, PhaseTable phases,
+                                  LootTable lootTable, boolean abilitiesShared) {
+        this.abilities = abilities;
+        this.phases = phases;
+        this.lootTable = lootTable;
+        this.abilitiesShared = abilitiesShared;
+    }
+
+    // -------------------------
+    // Reads (never copy)
+    // -------------------------
+
+    List<Ability> abilities() {
+        return abilities;
+    }
+
+    List<Ability> abilitiesView() {
+        List<Ability> view = abilitiesView;
+        if (view == null) {
+            view = Collections.unmodifiableList(abilities);
+            abilitiesView = view;
+        }
+        return view;
+    }
+
+    PhaseTable phases() {
+        return phases;
+    }
+
+    LootTable lootTable() {
+        return lootTable;
+    }
+
+    // -------------------------
+    // Writes (copy first if shared)
+    // -------------------------
+
+    void addAbility(Ability ability) {
+        ownAbilities().add(ability);
+    }
+
+    /**
+     * Replaces the abilities with a list the caller already owns (no copy here).
+     */
+    void replaceAbilities(List<Ability> ownedAbilities) {
+        this.abilities = ownedAbilities;
+        this.abilitiesView = null;
+        this.abilitiesShared = false;
+    }
+
+    void putPhase(int phaseNumber, int healthThreshold) {
+        this.phases = phases.with(phaseNumber, healthThreshold);
+    }
+
+    void setLootTable(LootTable lootTable) {
+        // loot tables are immutable values: replacing the reference is enough
+        this.lootTable = lootTable;
+    }
+
+    // -------------------------
+    // Prototype
+    // -------------------------
+
+    /**
+     * Copy-on-write clone: shares collections until the first write on either side.
+     */
+    CopyOnWriteComponents share() {
+        if (hasMutableAbilities(abilities)) {
+            // stateful abilities must never be shared: copy them right away
+            return new CopyOnWriteComponents(cloneAbilities(abilities), phases, lootTable, false);
+        }
+        // only write the flag once, so repeated clones of a template do not write to it
+        if (!abilitiesShared) abilitiesShared = true;
+        return new CopyOnWriteComponents(abilities, phases, lootTable, true);
+    }
+
+    /**
+     * Classic deep copy: cloned abilities, cloned loot table (the phase table is immutable).
+     */
+    CopyOnWriteComponents deepCopy() {
+        return new CopyOnWriteComponents(cloneAbilities(abilities), phases,
+                (lootTable == null) ? null : lootTable.clone(), false);
+    }
+
+    private List<Ability> ownAbilities() {
+        if (abilitiesShared) {
+            abilities = cloneAbilities(abilities);
+            abilitiesView = null;
+            abilitiesShared = false;
+        }
+        return abilities;
+    }
+
+    private static boolean hasMutableAbilities(List<Ability> source) {
+        for (int i = 0; i < source.size(); i++) {
+            if (source.get(i).isMutable()) return true;
+        }
+        return false;
+    }
+
+    private static List<Ability> cloneAbilities(List<Ability> source) {
+        List<Ability> copy = new ArrayList<>(source.size());
+        for (Ability a : source) {
+            copy.add(a.clone());
+        }
+        return copy;
+    }
+}
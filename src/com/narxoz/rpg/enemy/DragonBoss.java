@@ -4,7 +4,6 @@ import com.narxoz.rpg.combat.Ability;
 import com.narxoz.rpg.loot.LootTable;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -15,7 +14,8 @@ import java.util.Map;
  * clone() MUST be deep copy:
  *  - abilities: new list + clone each Ability
  *  - lootTable: clone
- *  - phases: new map copy
+ *  - phases: immutable PhaseTable, shared as is
+ * copyOnWriteClone() shares them instead until the first mutation.
  *
  * Builder-friendly:
  * Ideally constructed via BossEnemyBuilder (not direct telescoping calls).
@@ -30,13 +30,11 @@ public class DragonBoss implements Enemy {
     private int speed;
 
     // --- Theme / Behavior ---
-    private String element;      // "FIRE", "ICE", "SHADOW", "NONE"
-    private String aiBehavior;   // "AGGRESSIVE", "DEFENSIVE", "TACTICAL"
+    private Element element;        // FIRE, ICE, SHADOW, NONE
+    private AIBehavior aiBehavior;  // AGGRESSIVE, DEFENSIVE, TACTICAL
 
-    // --- Components ---
-    private List<Ability> abilities;
-    private Map<Integer, Integer> phases; // phase -> hp threshold
-    private LootTable lootTable;
+    // --- Components: abilities, phases (phase -> hp threshold), loot ---
+    private CopyOnWriteComponents components;
 
     // --- Special Properties ---
     private boolean canFly;
@@ -56,6 +54,21 @@ public class DragonBoss implements Enemy {
                       int phase1Threshold, int phase2Threshold, int phase3Threshold,
                       LootTable lootTable, String aiBehavior,
                       boolean canFly, boolean hasBreathAttack, int wingspan) {
+        this(name, health, damage, defense, speed, Element.parse(element), abilities,
+                phase1Threshold, phase2Threshold, phase3Threshold,
+                lootTable, AIBehavior.parse(aiBehavior),
+                canFly, hasBreathAttack, wingspan);
+    }
+
+    /**
+     * Same as above with already parsed element / AI behavior (null means NONE / AGGRESSIVE).
+     */
+    public DragonBoss(String name, int health, int damage, int defense,
+                      int speed, Element element,
+                      List<Ability> abilities,
+                      int phase1Threshold, int phase2Threshold, int phase3Threshold,
+                      LootTable lootTable, AIBehavior aiBehavior,
+                      boolean canFly, boolean hasBreathAttack, int wingspan) {
 
         this.name = name;
         this.health = health;
@@ -63,23 +76,22 @@ public class DragonBoss implements Enemy {
         this.defense = defense;
         this.speed = speed;
 
-        this.element = (element == null || element.trim().isEmpty()) ? "NONE" : element.trim().toUpperCase();
-        this.aiBehavior = (aiBehavior == null || aiBehavior.trim().isEmpty()) ? "AGGRESSIVE" : aiBehavior.trim().toUpperCase();
+        this.element = (element == null) ? Element.NONE : element;
+        this.aiBehavior = (aiBehavior == null) ? AIBehavior.AGGRESSIVE : aiBehavior;
 
-        this.abilities = new ArrayList<>();
+        List<Ability> abilityCopies = new ArrayList<>();
         if (abilities != null) {
             for (Ability a : abilities) {
-                this.abilities.add(a.clone());
+                abilityCopies.add(a.clone());
             }
         }
 
-        this.phases = new HashMap<>();
-        // Add only if > 0 to avoid weird zero thresholds
-        if (phase1Threshold > 0) this.phases.put(1, phase1Threshold);
-        if (phase2Threshold > 0) this.phases.put(2, phase2Threshold);
-        if (phase3Threshold > 0) this.phases.put(3, phase3Threshold);
+        // PhaseTable skips thresholds <= 0 to avoid weird zero thresholds
+        PhaseTable phases = PhaseTable.of(new int[]{1, 2, 3},
+                new int[]{phase1Threshold, phase2Threshold, phase3Threshold});
 
-        this.lootTable = (lootTable == null) ? null : lootTable.clone();
+        this.components = new CopyOnWriteComponents(abilityCopies, phases,
+                (lootTable == null) ? null : lootTable.clone());
 
         this.canFly = canFly;
         this.hasBreathAttack = hasBreathAttack;
@@ -117,29 +129,59 @@ public class DragonBoss implements Enemy {
 
     @Override
     public String getElement() {
-        return element;
+        return element.name();
     }
 
     @Override
     public String getAIBehavior() {
+        return aiBehavior.name();
+    }
+
+    @Override
+    public Element getElementType() {
+        return element;
+    }
+
+    @Override
+    public AIBehavior getAIBehaviorType() {
         return aiBehavior;
     }
 
     @Override
     public List<Ability> getAbilities() {
         // defensive copy
-        return new ArrayList<>(abilities);
+        return new ArrayList<>(components.abilities());
+    }
+
+    @Override
+    public List<Ability> abilitiesView() {
+        return components.abilitiesView();
+    }
+
+    @Override
+    public int abilityCount() {
+        return components.abilities().size();
+    }
+
+    @Override
+    public Ability getAbility(int index) {
+        return components.abilities().get(index);
     }
 
     @Override
     public LootTable getLootTable() {
-        return lootTable;
+        return components.lootTable();
     }
 
     @Override
     public Map<Integer, Integer> getPhases() {
         // defensive copy
-        return new HashMap<>(phases);
+        return components.phases().toMap();
+    }
+
+    @Override
+    public PhaseTable getPhaseTable() {
+        return components.phases();
     }
 
     // ----------------------------------------------------------------------
@@ -153,14 +195,16 @@ public class DragonBoss implements Enemy {
                 + " | Defense: " + defense + " | Speed: " + speed);
         System.out.println("Element: " + element);
 
+        List<Ability> abilities = components.abilities();
         System.out.println("Abilities (" + abilities.size() + "):");
         for (Ability a : abilities) {
             System.out.println("  - " + a.getName() + " (" + a.getDamage() + "): " + a.getDescription());
         }
 
+        PhaseTable phases = components.phases();
         System.out.println("Boss Phases: " + phases.size());
-        for (Map.Entry<Integer, Integer> phase : phases.entrySet()) {
-            System.out.println("  Phase " + phase.getKey() + ": triggers at " + phase.getValue() + " HP");
+        for (int i = 0; i < phases.size(); i++) {
+            System.out.println("  Phase " + phases.phaseAt(i) + ": triggers at " + phases.thresholdAt(i) + " HP");
         }
 
         System.out.println("AI Behavior: " + aiBehavior);
@@ -168,6 +212,7 @@ public class DragonBoss implements Enemy {
                 + " | Breath Attack: " + hasBreathAttack
                 + " | Wingspan: " + wingspan);
 
+        LootTable lootTable = components.lootTable();
         if (lootTable != null) {
             System.out.println(lootTable.getLootInfo());
         } else {
@@ -181,41 +226,62 @@ public class DragonBoss implements Enemy {
 
     @Override
     public Enemy clone() {
-        // Deep copy abilities list
-        List<Ability> abilityCopies = new ArrayList<>();
-        for (Ability a : this.abilities) {
-            abilityCopies.add(a.clone());
-        }
+        // Deep copy abilities list and loot table (phase table is immutable, incl. extra phases 4+)
+        return new DragonBoss(this, this.components.deepCopy());
+    }
+
+    /**
+     * Copy-on-write clone: shares abilities/loot/phases with this boss
+     * until one of the two is mutated (addAbility, setAbilities, addPhase, ...).
+     */
+    @Override
+    public Enemy copyOnWriteClone() {
+        return new DragonBoss(this, this.components.share());
+    }
+
+    /**
+     * Spawn from a frozen template (see EnemySnapshot.instantiate()).
+     */
+    DragonBoss(EnemySnapshot snapshot, CopyOnWriteComponents components) {
+        this.name = snapshot.getName();
+        this.health = snapshot.getHealth();
+        this.damage = snapshot.getDamage();
+        this.defense = snapshot.getDefense();
+        this.speed = snapshot.getSpeed();
+
+        this.element = snapshot.getElementType();
+        this.aiBehavior = snapshot.getAIBehaviorType();
+
+        this.components = components;
+
+        this.canFly = snapshot.canFly();
+        this.hasBreathAttack = snapshot.hasBreathAttack();
+        this.wingspan = snapshot.getWingspan();
+    }
+
+    @Override
+    public EnemySnapshot snapshot() {
+        return new EnemySnapshot(EnemySnapshot.Kind.DRAGON, name, health, damage, defense, speed,
+                element, aiBehavior,
+                components.abilities(), components.phases(), components.lootTable(),
+                canFly, hasBreathAttack, wingspan);
+    }
+
+    private DragonBoss(DragonBoss source, CopyOnWriteComponents components) {
+        this.name = source.name;
+        this.health = source.health;
+        this.damage = source.damage;
+        this.defense = source.defense;
+        this.speed = source.speed;
+
+        this.element = source.element;
+        this.aiBehavior = source.aiBehavior;
 
-        // Clone loot
-        LootTable lootCopy = (this.lootTable == null) ? null : this.lootTable.clone();
-
-        // Build via constructor (phases as 3 thresholds)
-        // If you may have more than 3 phases, we will still deep-copy them after construction.
-        int p1 = this.phases.getOrDefault(1, 0);
-        int p2 = this.phases.getOrDefault(2, 0);
-        int p3 = this.phases.getOrDefault(3, 0);
-
-        DragonBoss copy = new DragonBoss(
-                this.name,
-                this.health,
-                this.damage,
-                this.defense,
-                this.speed,
-                this.element,
-                abilityCopies,
-                p1, p2, p3,
-                lootCopy,
-                this.aiBehavior,
-                this.canFly,
-                this.hasBreathAttack,
-                this.wingspan
-        );
-
-        // If phases map contains extra phases (4+), preserve them too.
-        copy.phases = new HashMap<>(this.phases);
-
-        return copy;
+        this.components = components;
+
+        this.canFly = source.canFly;
+        this.hasBreathAttack = source.hasBreathAttack;
+        this.wingspan = source.wingspan;
     }
 
     // ----------------------------------------------------------------------
@@ -225,31 +291,43 @@ public class DragonBoss implements Enemy {
     @Override
     public void addAbility(Ability ability) {
         if (ability == null) return;
-        this.abilities.add(ability.clone());
+        components.addAbility(ability.clone());
     }
 
     @Override
     public void setAbilities(List<Ability> abilities) {
-        this.abilities = new ArrayList<>();
-        if (abilities == null) return;
-        for (Ability a : abilities) {
-            this.abilities.add(a.clone());
+        List<Ability> copies = new ArrayList<>();
+        if (abilities != null) {
+            for (Ability a : abilities) {
+                copies.add(a.clone());
+            }
         }
+        components.replaceAbilities(copies);
     }
 
     @Override
     public void setLootTable(LootTable lootTable) {
-        this.lootTable = (lootTable == null) ? null : lootTable.clone();
+        components.setLootTable((lootTable == null) ? null : lootTable.clone());
     }
 
     @Override
     public void setElement(String element) {
-        this.element = (element == null || element.trim().isEmpty()) ? "NONE" : element.trim().toUpperCase();
+        this.element = Element.parse(element);
     }
 
     @Override
     public void setAIBehavior(String aiBehavior) {
-        this.aiBehavior = (aiBehavior == null || aiBehavior.trim().isEmpty()) ? "AGGRESSIVE" : aiBehavior.trim().toUpperCase();
+        this.aiBehavior = AIBehavior.parse(aiBehavior);
+    }
+
+    @Override
+    public void setElementCode(Element element) {
+        this.element = (element == null) ? Element.NONE : element;
+    }
+
+    @Override
+    public void setAIBehaviorCode(AIBehavior aiBehavior) {
+        this.aiBehavior = (aiBehavior == null) ? AIBehavior.AGGRESSIVE : aiBehavior;
     }
 
     @Override
@@ -267,7 +345,7 @@ public class DragonBoss implements Enemy {
     public void addPhase(int phaseNumber, int healthThreshold) {
         if (phaseNumber <= 0) return;
         if (healthThreshold <= 0) return;
-        this.phases.put(phaseNumber, healthThreshold);
+        components.putPhase(phaseNumber, healthThreshold);
     }
 
     // Optional getters for special properties (if you want them in demo / UML)
@@ -0,0 +1,73 @@
+package com.narxoz.rpg.enemy;
+
+/**
+ * Element of an enemy ("FIRE", "ICE", ...), interned: one instance per name,
+ * so element checks are a reference comparison (enemy.getElementType() == Element.FIRE).
+ *
+ * Not an enum on purpose: templates and configs may use elements we do not
+ * know about; they are interned on first use and get the next ordinal.
+ * ordinal() is dense and can index per-element arrays (see count()).
+ */
+public final class Element {
+
+    private static final CodeTable<Element> CODES = new CodeTable<>(Element::new);
+
+    public static final Element NONE = CODES.of("NONE");
+    public static final Element FIRE = CODES.of("FIRE");
+    public static final Element ICE = CODES.of("ICE");
+    public static final Element SHADOW = CODES.of("SHADOW");
+
+    private final String name;
+    private final int ordinal;
+
+    private Element(String name, int ordinal) {
+        this.name = name;
+        this.ordinal = ordinal;
+    }
+
+    /**
+     * Element with exactly this name (no trimming / upper-casing).
+     */
+    public static Element of(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Element name cannot be null");
+        }
+        return CODES.of(name);
+    }
+
+    /**
+     * Compatibility layer for string input: trims and upper-cases
+     * (cached per input string). Null or blank means NONE.
+     */
+    public static Element parse(String value) {
+        return CODES.parse(value, NONE);
+    }
+
+    public static Element parse(String value, Element fallback) {
+        return CODES.parse(value, fallback);
+    }
+
+    /**
+     * @return number of elements interned so far (ordinals are 0..count()-1)
+     */
+    public static int count() {
+        return CODES.size();
+    }
+
+    public static Element byOrdinal(int ordinal) {
+        return CODES.byOrdinal(ordinal);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int ordinal() {
+        return ordinal;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
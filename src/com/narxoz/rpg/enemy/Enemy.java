@@ -3,6 +3,7 @@ package com.narxoz.rpg.enemy;
 import com.narxoz.rpg.combat.Ability;
 import com.narxoz.rpg.loot.LootTable;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -35,19 +36,58 @@ public interface Enemy {
 
     String getAIBehavior();
 
+    /**
+     * Interned element: compare with == (e.g. getElementType() == Element.FIRE).
+     */
+    default Element getElementType() {
+        return Element.parse(getElement());
+    }
+
+    default AIBehavior getAIBehaviorType() {
+        return AIBehavior.parse(getAIBehavior());
+    }
+
     // -------------------------
     // Components
     // -------------------------
     List<Ability> getAbilities();
 
+    /**
+     * Read-only view of the abilities (no copy). Re-fetch it after
+     * mutating the enemy: a copy-on-write enemy may switch to a new list.
+     */
+    default List<Ability> abilitiesView() {
+        return Collections.unmodifiableList(getAbilities());
+    }
+
+    /**
+     * Allocation-free indexed access for per-tick combat code.
+     */
+    default int abilityCount() {
+        return getAbilities().size();
+    }
+
+    default Ability getAbility(int index) {
+        return getAbilities().get(index);
+    }
+
     LootTable getLootTable();
 
     /**
      * Boss phases (optional).
      * For non-boss enemies can be empty map.
+     * Compatibility view: prefer getPhaseTable() on hot paths.
      */
     Map<Integer, Integer> getPhases();
 
+    /**
+     * Boss phases as an immutable sorted table with an allocation-free
+     * currentPhase(hp) lookup. Never null (PhaseTable.EMPTY if no phases).
+     */
+    default PhaseTable getPhaseTable() {
+        return PhaseTable.of(getPhases());
+    }
+
     // -------------------------
     // Demo / printing
     // -------------------------
@@ -58,6 +98,29 @@ public interface Enemy {
     // -------------------------
     Enemy clone();
 
+    /**
+     * Copy-on-write clone: the copy shares abilities, loot table and phases
+     * with this enemy until either side calls a mutating method, which then
+     * copies that collection privately. Observable behavior matches clone().
+     *
+     * Default falls back to a full deep copy.
+     */
+    default Enemy copyOnWriteClone() {
+        return clone();
+    }
+
+    /**
+     * Freeze the current state into an immutable, validated snapshot
+     * (used by EnemyRegistry when a template is registered).
+     *
+     * Default keeps a private deep copy and instantiates by cloning it.
+     *
+     * @throws IllegalArgumentException if the enemy is not a valid template
+     */
+    default EnemySnapshot snapshot() {
+        return EnemySnapshot.ofUnknown(this);
+    }
+
     // -------------------------
     // Variant helpers (used after cloning)
     // -------------------------
@@ -71,5 +134,13 @@ public interface Enemy {
 
     void setAIBehavior(String aiBehavior);
 
+    default void setElementCode(Element element) {
+        setElement((element == null) ? null : element.name());
+    }
+
+    default void setAIBehaviorCode(AIBehavior aiBehavior) {
+        setAIBehavior((aiBehavior == null) ? null : aiBehavior.name());
+    }
+
     void multiplyStats(double multiplier);
 }
\ No newline at end of file
@@ -0,0 +1,419 @@
+package com.narxoz.rpg.enemy;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.AbilityPool;
+import com.narxoz.rpg.loot.LootTable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Frozen, validated copy of an enemy template (Prototype pattern).
+ *
+ * Created once by Enemy.snapshot() when a template is registered:
+ *  - stats are flattened into final fields
+ *  - element / AI are interned codes (Element, AIBehavior)
+ *  - abilities live in an immutable list: shareable ones are interned
+ *    flyweights, mutable ones private copies, the rest the caller's instances
+ *  - loot table and phases are private copies nobody else can reach
+ *
+ * instantiate() builds a new enemy straight from these fields instead of
+ * walking (and defensively copying) a live object graph.
+ */
+public final class EnemySnapshot {
+
+    /**
+     * Which concrete enemy instantiate() produces.
+     */
+    enum Kind {
+        GOBLIN, SKELETON, DRAGON, STORED, OTHER
+    }
+
+    private final Kind kind;
+
+    private final String name;
+    private final int health;
+    private final int damage;
+    private final int defense;
+    private final int speed;
+
+    private final Element element;
+    private final AIBehavior aiBehavior;
+
+    private final List<Ability> abilities;          // immutable
+    private final boolean hasMutableAbilities;
+    private final PhaseTable phases;                 // immutable
+    private final LootTable lootTable;
+
+    // DragonBoss specials (unused by the other kinds)
+    private final boolean canFly;
+    private final boolean hasBreathAttack;
+    private final int wingspan;
+
+    // Kind.OTHER: private deep copy of an Enemy type we do not know how to flatten
+    private final Enemy prototype;
+
+    EnemySnapshot(Kind kind, String name, int health, int damage, int defense, int speed,
+                  Element element, AIBehavior aiBehavior,
+                  List<Ability> abilities, PhaseTable phases, LootTable lootTable,
+                  boolean canFly, boolean hasBreathAttack, int wingspan) {
+        validate(name, health, damage, defense, speed);
+
+        this.kind = kind;
+        this.name = name;
+        this.health = health;
+        this.damage = damage;
+        this.defense = defense;
+        this.speed = speed;
+
+        this.element = element;
+        this.aiBehavior = aiBehavior;
+
+        Ability[] frozen = new Ability[abilities.size()];
+        boolean mutable = false;
+        for (int i = 0; i < frozen.length; i++) {
+            frozen[i] = freeze(abilities.get(i));
+            mutable |= frozen[i].isMutable();
+        }
+        this.abilities = List.of(frozen);
+        this.hasMutableAbilities = mutable;
+        this.phases = phases;
+        this.lootTable = (lootTable == null) ? null : lootTable.clone();
+
+        this.canFly = canFly;
+        this.hasBreathAttack = hasBreathAttack;
+        this.wingspan = wingspan;
+        this.prototype = null;
+    }
+
+    /**
+     * Only abilities that declare themselves shareable are swapped for the
+     * pooled instance; a configured immutable ability is kept as given.
+     */
+    private static Ability freeze(Ability ability) {
+        if (ability.isShareable() || ability.isMutable()) {
+            return AbilityPool.intern(ability);
+        }
+        return ability;
+    }
+
+    private EnemySnapshot(Enemy source) {
+        validate(source.getName(), source.getHealth(), source.getDamage(), source.getDefense(), source.getSpeed());
+
+        this.kind = Kind.OTHER;
+        this.name = source.getName();
+        this.health = source.getHealth();
+        this.damage = source.getDamage();
+        this.defense = source.getDefense();
+        this.speed = source.getSpeed();
+        this.element = source.getElementType();
+        this.aiBehavior = source.getAIBehaviorType();
+        // components come from the private clone, never from the caller's live enemy
+        this.prototype = source.clone();
+        this.abilities = List.copyOf(prototype.getAbilities());
+        this.hasMutableAbilities = true; // unknown type: always deep copy
+        this.phases = prototype.getPhaseTable();
+        this.lootTable = prototype.getLootTable();
+        this.canFly = false;
+        this.hasBreathAttack = false;
+        this.wingspan = 0;
+    }
+
+    private EnemySnapshot(EnemySnapshot source, int health, int damage, int defense, int speed) {
+        validate(source.name, health, damage, defense, speed);
+
+        this.kind = source.kind;
+        this.name = source.name;
+        this.health = health;
+        this.damage = damage;
+        this.defense = defense;
+        this.speed = speed;
+        this.element = source.element;
+        this.aiBehavior = source.aiBehavior;
+        this.abilities = source.abilities;
+        this.hasMutableAbilities = source.hasMutableAbilities;
+        this.phases = source.phases;
+        this.lootTable = source.lootTable;
+        this.canFly = source.canFly;
+        this.hasBreathAttack = source.hasBreathAttack;
+        this.wingspan = source.wingspan;
+        this.prototype = null;
+    }
+
+    /**
+     * Fallback for Enemy implementations that do not override Enemy.snapshot():
+     * keeps a private deep copy and instantiates by cloning it.
+     */
+    static EnemySnapshot ofUnknown(Enemy source) {
+        return new EnemySnapshot(source);
+    }
+
+    private static void validate(String name, int health, int damage, int defense, int speed) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Template name is required");
+        }
+        if (health <= 0) {
+            throw new IllegalArgumentException("Template health must be positive: " + name);
+        }
+        if (damage < 0 || defense < 0 || speed < 0) {
+            throw new IllegalArgumentException("Template stats cannot be negative: " + name);
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Prototype: spawn from the snapshot
+    // ----------------------------------------------------------------------
+
+    /**
+     * New enemy that shares the frozen components copy-on-write
+     * (nothing is copied until the enemy is mutated).
+     */
+    public Enemy instantiate() {
+        return instantiate(true);
+    }
+
+    /**
+     * New enemy with its own deep-copied abilities, loot table and phases.
+     */
+    public Enemy instantiateDeep() {
+        return instantiate(false);
+    }
+
+    /**
+     * Snapshot with the same stats as instantiate() followed by multiplyStats(multiplier);
+     * everything else is shared with this snapshot.
+     *
+     * @throws IllegalArgumentException if the scaled stats are not a valid template
+     */
+    public EnemySnapshot scaled(double multiplier) {
+        if (multiplier <= 0) return this; // multiplyStats ignores it too
+        if (kind == Kind.OTHER) {
+            Enemy copy = prototype.clone();
+            copy.multiplyStats(multiplier);
+            return ofUnknown(copy);
+        }
+        return new EnemySnapshot(this,
+                StatScaling.scale(health, multiplier), StatScaling.scale(damage, multiplier),
+                StatScaling.scale(defense, multiplier), StatScaling.scale(speed, multiplier));
+    }
+
+    /**
+     * Builder pre-filled with this snapshot's fields, for deriving a new snapshot
+     * that overrides a few of them (e.g. delta templates). Unchanged components are shared.
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    private Enemy instantiate(boolean share) {
+        switch (kind) {
+            case GOBLIN:
+                return new Goblin(this, components(share));
+            case SKELETON:
+                return new Skeleton(this, components(share));
+            case DRAGON:
+                return new DragonBoss(this, components(share));
+            case STORED:
+                return new StoredEnemy(this, components(share));
+            default:
+                return share ? prototype.copyOnWriteClone() : prototype.clone();
+        }
+    }
+
+    private CopyOnWriteComponents components(boolean share) {
+        if (share && !hasMutableAbilities) {
+            return CopyOnWriteComponents.shared(abilities, phases, lootTable);
+        }
+        List<Ability> abilityCopies = new ArrayList<>(abilities.size());
+        for (Ability a : abilities) {
+            abilityCopies.add(a.clone());
+        }
+        return new CopyOnWriteComponents(abilityCopies, phases,
+                (lootTable == null) ? null : lootTable.clone());
+    }
+
+    // ----------------------------------------------------------------------
+    // Read-only accessors
+    // ----------------------------------------------------------------------
+
+    public String getName() {
+        return name;
+    }
+
+    public int getHealth() {
+        return health;
+    }
+
+    public int getDamage() {
+        return damage;
+    }
+
+    public int getDefense() {
+        return defense;
+    }
+
+    public int getSpeed() {
+        return speed;
+    }
+
+    public String getElement() {
+        return element.name();
+    }
+
+    public String getAIBehavior() {
+        return aiBehavior.name();
+    }
+
+    public Element getElementType() {
+        return element;
+    }
+
+    public AIBehavior getAIBehaviorType() {
+        return aiBehavior;
+    }
+
+    /**
+     * @return immutable list of (shared) abilities
+     */
+    public List<Ability> getAbilities() {
+        return abilities;
+    }
+
+    /**
+     * @return immutable phase -> hp threshold map
+     */
+    public Map<Integer, Integer> getPhases() {
+        return Collections.unmodifiableMap(phases.toMap());
+    }
+
+    public PhaseTable getPhaseTable() {
+        return phases;
+    }
+
+    public LootTable getLootTable() {
+        return lootTable;
+    }
+
+    boolean canFly() {
+        return canFly;
+    }
+
+    boolean hasBreathAttack() {
+        return hasBreathAttack;
+    }
+
+    int getWingspan() {
+        return wingspan;
+    }
+
+    /**
+     * Copy of a snapshot with some fields replaced; build() validates like a registration.
+     *
+     * Snapshots of unknown Enemy types (kept as a cloned prototype) can only get
+     * the overrides the Enemy interface can apply: element, AI, abilities and loot.
+     */
+    public static final class Builder {
+        private final EnemySnapshot source;
+
+        private String name;
+        private int health;
+        private int damage;
+        private int defense;
+        private int speed;
+        private Element element;
+        private AIBehavior aiBehavior;
+        private List<Ability> abilities;
+        private PhaseTable phases;
+        private LootTable lootTable;
+
+        private Builder(EnemySnapshot source) {
+            this.source = source;
+            this.name = source.name;
+            this.health = source.health;
+            this.damage = source.damage;
+            this.defense = source.defense;
+            this.speed = source.speed;
+            this.element = source.element;
+            this.aiBehavior = source.aiBehavior;
+            this.abilities = source.abilities;
+            this.phases = source.phases;
+            this.lootTable = source.lootTable;
+        }
+
+        public Builder setName(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder setHealth(int health) {
+            this.health = health;
+            return this;
+        }
+
+        public Builder setDamage(int damage) {
+            this.damage = damage;
+            return this;
+        }
+
+        public Builder setDefense(int defense) {
+            this.defense = defense;
+            return this;
+        }
+
+        public Builder setSpeed(int speed) {
+            this.speed = speed;
+            return this;
+        }
+
+        public Builder setElement(Element element) {
+            this.element = (element == null) ? Element.NONE : element;
+            return this;
+        }
+
+        public Builder setAIBehavior(AIBehavior aiBehavior) {
+            if (aiBehavior != null) {
+                this.aiBehavior = aiBehavior;
+            }
+            return this;
+        }
+
+        public Builder setAbilities(List<Ability> abilities) {
+            this.abilities = (abilities == null) ? List.of() : abilities;
+            return this;
+        }
+
+        public Builder setPhases(PhaseTable phases) {
+            this.phases = (phases == null) ? PhaseTable.EMPTY : phases;
+            return this;
+        }
+
+        public Builder setLootTable(LootTable lootTable) {
+            this.lootTable = lootTable;
+            return this;
+        }
+
+        /**
+         * @throws IllegalArgumentException if the result is not a valid template
+         */
+        public EnemySnapshot build() {
+            if (source.kind != Kind.OTHER) {
+                return new EnemySnapshot(source.kind, name, health, damage, defense, speed,
+                        element, aiBehavior, abilities, phases, lootTable,
+                        source.canFly, source.hasBreathAttack, source.wingspan);
+            }
+            if (!source.name.equals(name) || health != source.health || damage != source.damage
+                    || defense != source.defense || speed != source.speed || phases != source.phases) {
+                throw new IllegalArgumentException(
+                        "Only element, AI, abilities and loot can be overridden for " + source.name);
+            }
+            Enemy copy = source.prototype.clone();
+            copy.setElementCode(element);
+            copy.setAIBehaviorCode(aiBehavior);
+            copy.setAbilities(abilities);
+            copy.setLootTable((lootTable == null) ? null : lootTable.clone());
+            return ofUnknown(copy);
+        }
+    }
+}
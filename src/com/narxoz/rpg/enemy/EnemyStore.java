@@ -0,0 +1,591 @@
+package com.narxoz.rpg.enemy;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.loot.LootTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar (struct-of-arrays) store for large enemy populations.
+ *
+ * Instead of one Goblin/Skeleton object graph per mob, every enemy is a row:
+ *  - health / damage / defense / speed in parallel int[] columns
+ *  - element and AI behavior as byte codes
+ *  - name, ability set, loot table and phase table as int indices into
+ *    shared, de-duplicated tables (10k identical goblins share ONE ability list)
+ *
+ * view(row) returns an Enemy-compatible flyweight over a row, so code written
+ * against Enemy keeps working. Bulk operations (multiplyStats) sweep the
+ * columns directly.
+ *
+ * Not thread-safe: confine a store to one shard/thread.
+ */
+public final class EnemyStore {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    // --- Columns (one entry per row) ---
+    private int[] health;
+    private int[] damage;
+    private int[] defense;
+    private int[] speed;
+    private byte[] element;
+    private byte[] aiBehavior;
+    private int[] nameIndex;
+    private int[] abilitySetIndex;
+    private int[] lootIndex;
+    private int[] phaseIndex;
+    private int size;
+
+    // --- Shared, de-duplicated tables ---
+    private final Dictionary<String> names = new Dictionary<>(Integer.MAX_VALUE);
+    private final Dictionary<Element> elements = new Dictionary<>(Byte.MAX_VALUE);
+    private final Dictionary<AIBehavior> aiBehaviors = new Dictionary<>(Byte.MAX_VALUE);
+    private final Dictionary<List<Ability>> abilitySets = new Dictionary<>(Integer.MAX_VALUE);
+    private final Dictionary<LootKey> lootTables = new Dictionary<>(Integer.MAX_VALUE);
+    private final Dictionary<PhaseTable> phaseTables = new Dictionary<>(Integer.MAX_VALUE);
+
+    public EnemyStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public EnemyStore(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.health = new int[capacity];
+        this.damage = new int[capacity];
+        this.defense = new int[capacity];
+        this.speed = new int[capacity];
+        this.element = new byte[capacity];
+        this.aiBehavior = new byte[capacity];
+        this.nameIndex = new int[capacity];
+        this.abilitySetIndex = new int[capacity];
+        this.lootIndex = new int[capacity];
+        this.phaseIndex = new int[capacity];
+    }
+
+    // ----------------------------------------------------------------------
+    // Adding rows
+    // ----------------------------------------------------------------------
+
+    /**
+     * Copies an enemy into a new row.
+     *
+     * @return the new row index
+     */
+    public int add(Enemy enemy) {
+        int row = newRow();
+        health[row] = enemy.getHealth();
+        damage[row] = enemy.getDamage();
+        defense[row] = enemy.getDefense();
+        speed[row] = enemy.getSpeed();
+        element[row] = (byte) elements.indexOf(enemy.getElementType());
+        aiBehavior[row] = (byte) aiBehaviors.indexOf(enemy.getAIBehaviorType());
+        nameIndex[row] = names.indexOf(enemy.getName());
+        abilitySetIndex[row] = abilitySetIndex(enemy.abilitiesView());
+        lootIndex[row] = lootIndex(enemy.getLootTable());
+        phaseIndex[row] = phaseTables.indexOf(enemy.getPhaseTable());
+        return row;
+    }
+
+    /**
+     * Spawns {@code count} rows from a frozen template. Shared tables are resolved
+     * once, so every row after the first is a handful of array stores.
+     *
+     * @return index of the first new row (rows are contiguous)
+     */
+    public int spawn(EnemySnapshot template, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative: " + count);
+        }
+        ensureCapacity(size + count);
+
+        byte elementCode = (byte) elements.indexOf(template.getElementType());
+        byte aiCode = (byte) aiBehaviors.indexOf(template.getAIBehaviorType());
+        int name = names.indexOf(template.getName());
+        int abilities = abilitySetIndex(template.getAbilities());
+        int loot = lootIndex(template.getLootTable());
+        int phases = phaseTables.indexOf(template.getPhaseTable());
+
+        int first = size;
+        int end = first + count;
+        Arrays.fill(health, first, end, template.getHealth());
+        Arrays.fill(damage, first, end, template.getDamage());
+        Arrays.fill(defense, first, end, template.getDefense());
+        Arrays.fill(speed, first, end, template.getSpeed());
+        Arrays.fill(element, first, end, elementCode);
+        Arrays.fill(aiBehavior, first, end, aiCode);
+        Arrays.fill(nameIndex, first, end, name);
+        Arrays.fill(abilitySetIndex, first, end, abilities);
+        Arrays.fill(lootIndex, first, end, loot);
+        Arrays.fill(phaseIndex, first, end, phases);
+        size = end;
+        return first;
+    }
+
+    /**
+     * Copies a row into a new row of this store.
+     *
+     * @return the new row index
+     */
+    public int copyRow(int row) {
+        checkRow(row);
+        int copy = newRow();
+        health[copy] = health[row];
+        damage[copy] = damage[row];
+        defense[copy] = defense[row];
+        speed[copy] = speed[row];
+        element[copy] = element[row];
+        aiBehavior[copy] = aiBehavior[row];
+        nameIndex[copy] = nameIndex[row];
+        abilitySetIndex[copy] = abilitySetIndex[row];
+        lootIndex[copy] = lootIndex[row];
+        phaseIndex[copy] = phaseIndex[row];
+        return copy;
+    }
+
+    /**
+     * Removes a row by moving the last row into its place (O(1)).
+     * Views of the previously last row now refer to a different (or no) row.
+     *
+     * @return the index the last row was moved from, or -1 if {@code row} was the last one
+     */
+    public int removeSwap(int row) {
+        checkRow(row);
+        int last = size - 1;
+        size--;
+        if (row == last) return -1;
+
+        health[row] = health[last];
+        damage[row] = damage[last];
+        defense[row] = defense[last];
+        speed[row] = speed[last];
+        element[row] = element[last];
+        aiBehavior[row] = aiBehavior[last];
+        nameIndex[row] = nameIndex[last];
+        abilitySetIndex[row] = abilitySetIndex[last];
+        lootIndex[row] = lootIndex[last];
+        phaseIndex[row] = phaseIndex[last];
+        return last;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // ----------------------------------------------------------------------
+    // Bulk operations (column sweeps)
+    // ----------------------------------------------------------------------
+
+    /**
+     * Same result as calling Enemy.multiplyStats(multiplier) on every row.
+     */
+    public void multiplyStats(double multiplier) {
+        multiplyStats(0, size, multiplier);
+    }
+
+    /**
+     * Same result as calling Enemy.multiplyStats(multiplier) on rows [from, to).
+     */
+    public void multiplyStats(int from, int to, double multiplier) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Rows [" + from + ", " + to + ") of " + size);
+        }
+        if (multiplier <= 0) return;
+        StatScaling.scale(health, from, to, multiplier);
+        StatScaling.scale(damage, from, to, multiplier);
+        StatScaling.scale(defense, from, to, multiplier);
+        StatScaling.scale(speed, from, to, multiplier);
+    }
+
+    // ----------------------------------------------------------------------
+    // Row accessors
+    // ----------------------------------------------------------------------
+
+    public int getHealth(int row) {
+        checkRow(row);
+        return health[row];
+    }
+
+    public int getDamage(int row) {
+        checkRow(row);
+        return damage[row];
+    }
+
+    public int getDefense(int row) {
+        checkRow(row);
+        return defense[row];
+    }
+
+    public int getSpeed(int row) {
+        checkRow(row);
+        return speed[row];
+    }
+
+    public void setHealth(int row, int value) {
+        checkRow(row);
+        health[row] = value;
+    }
+
+    public String getName(int row) {
+        checkRow(row);
+        return names.get(nameIndex[row]);
+    }
+
+    public Element getElement(int row) {
+        checkRow(row);
+        return elements.get(element[row]);
+    }
+
+    public AIBehavior getAIBehavior(int row) {
+        checkRow(row);
+        return aiBehaviors.get(aiBehavior[row]);
+    }
+
+    /**
+     * @return the shared, immutable ability list of the row
+     */
+    public List<Ability> getAbilities(int row) {
+        checkRow(row);
+        return abilitySets.get(abilitySetIndex[row]);
+    }
+
+    public LootTable getLootTable(int row) {
+        checkRow(row);
+        LootKey key = lootTables.get(lootIndex[row]);
+        return (key == null) ? null : key.table;
+    }
+
+    public PhaseTable getPhaseTable(int row) {
+        checkRow(row);
+        return phaseTables.get(phaseIndex[row]);
+    }
+
+    /**
+     * @return an Enemy flyweight reading and writing this row
+     */
+    public Enemy view(int row) {
+        checkRow(row);
+        return new Row(row);
+    }
+
+    /**
+     * @return number of distinct ability lists / loot tables shared by all rows
+     */
+    public int sharedAbilitySets() {
+        return abilitySets.size();
+    }
+
+    public int sharedLootTables() {
+        return lootTables.size();
+    }
+
+    // ----------------------------------------------------------------------
+    // Internals
+    // ----------------------------------------------------------------------
+
+    private int newRow() {
+        ensureCapacity(size + 1);
+        return size++;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= health.length) return;
+        int capacity = Math.max(required, health.length * 2);
+        health = Arrays.copyOf(health, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        defense = Arrays.copyOf(defense, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        element = Arrays.copyOf(element, capacity);
+        aiBehavior = Arrays.copyOf(aiBehavior, capacity);
+        nameIndex = Arrays.copyOf(nameIndex, capacity);
+        abilitySetIndex = Arrays.copyOf(abilitySetIndex, capacity);
+        lootIndex = Arrays.copyOf(lootIndex, capacity);
+        phaseIndex = Arrays.copyOf(phaseIndex, capacity);
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+    }
+
+    private int abilitySetIndex(List<Ability> abilities) {
+        // equal lists share one entry; the row keeps the caller's ability instances
+        return abilitySets.indexOf(List.copyOf(abilities));
+    }
+
+    private int lootIndex(LootTable table) {
+        return lootTables.indexOf((table == null) ? null : new LootKey(table));
+    }
+
+    /**
+     * Value -> small int code, with the reverse lookup by code.
+     */
+    private static final class Dictionary<T> {
+        private final int maxSize;
+        private final List<T> values = new ArrayList<>();
+        private final Map<T, Integer> codes = new HashMap<>();
+
+        Dictionary(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        int indexOf(T value) {
+            Integer code = codes.get(value);
+            if (code != null) return code;
+            if (values.size() >= maxSize) {
+                throw new IllegalStateException("Too many distinct values (max " + maxSize + "): " + value);
+            }
+            int next = values.size();
+            values.add(value);
+            codes.put(value, next);
+            return next;
+        }
+
+        T get(int code) {
+            return values.get(code);
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+
+    /**
+     * Loot tables are immutable values without equals(); compare them by content.
+     */
+    private static final class LootKey {
+        private final LootTable table;
+        private final List<String> items;
+
+        LootKey(LootTable table) {
+            this.table = table;
+            this.items = table.itemsView();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof LootKey)) return false;
+            LootKey other = (LootKey) o;
+            return table.getClass() == other.table.getClass()
+                    && table.getGoldDrop() == other.table.getGoldDrop()
+                    && table.getExperienceDrop() == other.table.getExperienceDrop()
+                    && items.equals(other.items);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * items.hashCode() + table.getGoldDrop()) + table.getExperienceDrop();
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Flyweight view
+    // ----------------------------------------------------------------------
+
+    /**
+     * Enemy view over one row. Holds nothing but the row index:
+     * every getter reads the columns, every variant helper writes them.
+     * clone(), copyOnWriteClone() and snapshot() detach the row into a
+     * StoredEnemy / EnemySnapshot and never write to the store.
+     */
+    private final class Row implements Enemy {
+
+        private final int row;
+
+        Row(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public String getName() {
+            return EnemyStore.this.getName(row);
+        }
+
+        @Override
+        public int getHealth() {
+            return EnemyStore.this.getHealth(row);
+        }
+
+        @Override
+        public int getDamage() {
+            return EnemyStore.this.getDamage(row);
+        }
+
+        @Override
+        public int getDefense() {
+            return EnemyStore.this.getDefense(row);
+        }
+
+        @Override
+        public int getSpeed() {
+            return EnemyStore.this.getSpeed(row);
+        }
+
+        @Override
+        public String getElement() {
+            return EnemyStore.this.getElement(row).name();
+        }
+
+        @Override
+        public String getAIBehavior() {
+            return EnemyStore.this.getAIBehavior(row).name();
+        }
+
+        @Override
+        public Element getElementType() {
+            return EnemyStore.this.getElement(row);
+        }
+
+        @Override
+        public AIBehavior getAIBehaviorType() {
+            return EnemyStore.this.getAIBehavior(row);
+        }
+
+        @Override
+        public List<Ability> getAbilities() {
+            return new ArrayList<>(EnemyStore.this.getAbilities(row));
+        }
+
+        @Override
+        public List<Ability> abilitiesView() {
+            return EnemyStore.this.getAbilities(row);
+        }
+
+        @Override
+        public int abilityCount() {
+            return EnemyStore.this.getAbilities(row).size();
+        }
+
+        @Override
+        public Ability getAbility(int index) {
+            return EnemyStore.this.getAbilities(row).get(index);
+        }
+
+        @Override
+        public LootTable getLootTable() {
+            return EnemyStore.this.getLootTable(row);
+        }
+
+        @Override
+        public Map<Integer, Integer> getPhases() {
+            return EnemyStore.this.getPhaseTable(row).toMap();
+        }
+
+        @Override
+        public PhaseTable getPhaseTable() {
+            return EnemyStore.this.getPhaseTable(row);
+        }
+
+        @Override
+        public void displayInfo() {
+            System.out.println("=== " + getName() + " (Store row " + row + ") ===");
+            System.out.println("Health: " + getHealth() + " | Damage: " + getDamage()
+                    + " | Defense: " + getDefense() + " | Speed: " + getSpeed());
+            System.out.println("Element: " + getElement() + " | AI: " + getAIBehavior());
+
+            List<Ability> abilities = abilitiesView();
+            System.out.println("Abilities: " + abilities.size());
+            for (Ability a : abilities) {
+                System.out.println("  - " + a.getName() + " (" + a.getDamage() + "): " + a.getDescription());
+            }
+
+            LootTable lootTable = getLootTable();
+            System.out.println((lootTable != null) ? lootTable.getLootInfo() : "No loot table set.");
+        }
+
+        /**
+         * Prototype: a standalone deep copy of the row (the store is not touched).
+         */
+        @Override
+        public Enemy clone() {
+            return detach(components().deepCopy());
+        }
+
+        @Override
+        public Enemy copyOnWriteClone() {
+            return detach(components().share());
+        }
+
+        /**
+         * Freezes the column values; the snapshot does not refer to the store.
+         */
+        @Override
+        public EnemySnapshot snapshot() {
+            checkRow(row);
+            return new EnemySnapshot(EnemySnapshot.Kind.STORED, getName(), getHealth(), getDamage(),
+                    getDefense(), getSpeed(), getElementType(), getAIBehaviorType(),
+                    EnemyStore.this.getAbilities(row), getPhaseTable(), getLootTable(),
+                    false, false, 0);
+        }
+
+        // the row's shared tables, treated like a snapshot's frozen components
+        private CopyOnWriteComponents components() {
+            return CopyOnWriteComponents.shared(EnemyStore.this.getAbilities(row), getPhaseTable(), getLootTable());
+        }
+
+        private Enemy detach(CopyOnWriteComponents components) {
+            return new StoredEnemy(getName(), getHealth(), getDamage(), getDefense(), getSpeed(),
+                    getElementType(), getAIBehaviorType(), components);
+        }
+
+        @Override
+        public void addAbility(Ability ability) {
+            if (ability == null) return;
+            List<Ability> current = EnemyStore.this.getAbilities(row);
+            List<Ability> next = new ArrayList<>(current.size() + 1);
+            next.addAll(current);
+            next.add(ability);
+            abilitySetIndex[row] = abilitySetIndex(next);
+        }
+
+        @Override
+        public void setAbilities(List<Ability> abilities) {
+            checkRow(row);
+            abilitySetIndex[row] = abilitySetIndex((abilities == null) ? List.of() : abilities);
+        }
+
+        @Override
+        public void setLootTable(LootTable lootTable) {
+            checkRow(row);
+            lootIndex[row] = lootIndex(lootTable);
+        }
+
+        @Override
+        public void setElement(String value) {
+            setElementCode(Element.parse(value));
+        }
+
+        @Override
+        public void setElementCode(Element value) {
+            checkRow(row);
+            element[row] = (byte) elements.indexOf((value == null) ? Element.NONE : value);
+        }
+
+        @Override
+        public void setAIBehavior(String value) {
+            setAIBehaviorCode(AIBehavior.parse(value));
+        }
+
+        @Override
+        public void setAIBehaviorCode(AIBehavior value) {
+            checkRow(row);
+            aiBehavior[row] = (byte) aiBehaviors.indexOf((value == null) ? AIBehavior.AGGRESSIVE : value);
+        }
+
+        @Override
+        public void multiplyStats(double multiplier) {
+            checkRow(row);
+            EnemyStore.this.multiplyStats(row, row + 1, multiplier);
+        }
+    }
+}
@@ -4,7 +4,6 @@ import com.narxoz.rpg.combat.Ability;
 import com.narxoz.rpg.loot.LootTable;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -15,7 +14,8 @@ import java.util.Map;
  * clone() MUST do deep copy:
  *  - abilities list: new list + clone each ability
  *  - lootTable: clone
- *  - phases map: new map (here usually empty, but still deep-copied)
+ *  - phases: immutable PhaseTable (here usually empty), shared as is
+ * copyOnWriteClone() shares them instead until the first mutation.
  */
 public class Goblin implements Enemy {
 
@@ -25,15 +25,13 @@ public class Goblin implements Enemy {
     private int defense;
     private int speed;
 
-    private String element;      // for elemental variants (can be "NONE")
-    private String aiBehavior;   // e.g., "AGGRESSIVE", "DEFENSIVE", "TACTICAL"
-
-    private List<Ability> abilities;
-    private LootTable lootTable;
+    private Element element;        // for elemental variants (can be NONE)
+    private AIBehavior aiBehavior;  // e.g., AGGRESSIVE, DEFENSIVE, TACTICAL
 
+    // abilities + loot + phases (copy-on-write capable, see copyOnWriteClone())
     // Goblins are not bosses, but Enemy interface requires phases map.
     // We'll keep it empty for Goblin.
-    private Map<Integer, Integer> phases;
+    private CopyOnWriteComponents components;
 
     public Goblin(String name) {
         this.name = name;
@@ -44,12 +42,10 @@ public class Goblin implements Enemy {
         this.defense = 5;
         this.speed = 35;
 
-        this.element = "NONE";
-        this.aiBehavior = "AGGRESSIVE";
+        this.element = Element.NONE;
+        this.aiBehavior = AIBehavior.AGGRESSIVE;
 
-        this.abilities = new ArrayList<>();
-        this.phases = new HashMap<>();
-        this.lootTable = null;
+        this.components = new CopyOnWriteComponents();
     }
 
     // -------------------------
@@ -83,29 +79,59 @@ public class Goblin implements Enemy {
 
     @Override
     public String getElement() {
-        return element;
+        return element.name();
     }
 
     @Override
     public String getAIBehavior() {
+        return aiBehavior.name();
+    }
+
+    @Override
+    public Element getElementType() {
+        return element;
+    }
+
+    @Override
+    public AIBehavior getAIBehaviorType() {
         return aiBehavior;
     }
 
     @Override
     public List<Ability> getAbilities() {
         // чтобы снаружи не могли менять список напрямую
-        return new ArrayList<>(abilities);
+        return new ArrayList<>(components.abilities());
+    }
+
+    @Override
+    public List<Ability> abilitiesView() {
+        return components.abilitiesView();
+    }
+
+    @Override
+    public int abilityCount() {
+        return components.abilities().size();
+    }
+
+    @Override
+    public Ability getAbility(int index) {
+        return components.abilities().get(index);
     }
 
     @Override
     public LootTable getLootTable() {
-        return lootTable;
+        return components.lootTable();
     }
 
     @Override
     public Map<Integer, Integer> getPhases() {
-        // goblin phases usually empty, but still return copy
-        return new HashMap<>(phases);
+        // goblin phases usually empty, but still return a new map
+        return components.phases().toMap();
+    }
+
+    @Override
+    public PhaseTable getPhaseTable() {
+        return components.phases();
     }
 
     // -------------------------
@@ -119,11 +145,13 @@ public class Goblin implements Enemy {
                 + " | Defense: " + defense + " | Speed: " + speed);
         System.out.println("Element: " + element + " | AI: " + aiBehavior);
 
+        List<Ability> abilities = components.abilities();
         System.out.println("Abilities: " + abilities.size());
         for (Ability a : abilities) {
             System.out.println("  - " + a.getName() + " (" + a.getDamage() + "): " + a.getDescription());
         }
 
+        LootTable lootTable = components.lootTable();
         if (lootTable != null) {
             System.out.println(lootTable.getLootInfo());
         } else {
@@ -137,31 +165,57 @@ public class Goblin implements Enemy {
 
     @Override
     public Enemy clone() {
-        Goblin copy = new Goblin(this.name);
+        // deep copy abilities + loot table (phase table is immutable)
+        return new Goblin(this, this.components.deepCopy());
+    }
 
-        // primitive fields
-        copy.health = this.health;
-        copy.damage = this.damage;
-        copy.defense = this.defense;
-        copy.speed = this.speed;
+    /**
+     * Copy-on-write clone: shares abilities/loot/phases with this goblin
+     * until one of the two is mutated.
+     */
+    @Override
+    public Enemy copyOnWriteClone() {
+        return new Goblin(this, this.components.share());
+    }
 
-        // theme fields
-        copy.element = this.element;
-        copy.aiBehavior = this.aiBehavior;
+    /**
+     * Spawn from a frozen template (see EnemySnapshot.instantiate()).
+     */
+    Goblin(EnemySnapshot snapshot, CopyOnWriteComponents components) {
+        this.name = snapshot.getName();
+        this.health = snapshot.getHealth();
+        this.damage = snapshot.getDamage();
+        this.defense = snapshot.getDefense();
+        this.speed = snapshot.getSpeed();
 
-        // deep copy abilities
-        copy.abilities = new ArrayList<>();
-        for (Ability a : this.abilities) {
-            copy.abilities.add(a.clone());
-        }
+        this.element = snapshot.getElementType();
+        this.aiBehavior = snapshot.getAIBehaviorType();
 
-        // deep copy loot table
-        copy.lootTable = (this.lootTable == null) ? null : this.lootTable.clone();
+        this.components = components;
+    }
 
-        // deep copy phases map (usually empty)
-        copy.phases = new HashMap<>(this.phases);
+    @Override
+    public EnemySnapshot snapshot() {
+        return new EnemySnapshot(EnemySnapshot.Kind.GOBLIN, name, health, damage, defense, speed,
+                element, aiBehavior,
+                components.abilities(), components.phases(), components.lootTable(),
+                false, false, 0);
+    }
 
-        return copy;
+    private Goblin(Goblin source, CopyOnWriteComponents components) {
+        this.name = source.name;
+
+        // primitive fields
+        this.health = source.health;
+        this.damage = source.damage;
+        this.defense = source.defense;
+        this.speed = source.speed;
+
+        // theme fields
+        this.element = source.element;
+        this.aiBehavior = source.aiBehavior;
+
+        this.components = components;
     }
 
     // -------------------------
@@ -171,33 +225,45 @@ public class Goblin implements Enemy {
     @Override
     public void addAbility(Ability ability) {
         if (ability == null) return;
-        this.abilities.add(ability);
+        components.addAbility(ability);
     }
 
     @Override
     public void setAbilities(List<Ability> abilities) {
-        this.abilities = new ArrayList<>();
-        if (abilities == null) return;
-        for (Ability a : abilities) {
-            // чтобы не шарить ссылки — кладём клоны
-            this.abilities.add(a.clone());
+        List<Ability> copies = new ArrayList<>();
+        if (abilities != null) {
+            for (Ability a : abilities) {
+                // чтобы не шарить ссылки — кладём клоны
+                copies.add(a.clone());
+            }
         }
+        components.replaceAbilities(copies);
     }
 
     @Override
     public void setLootTable(LootTable lootTable) {
         // тоже без shared reference
-        this.lootTable = (lootTable == null) ? null : lootTable.clone();
+        components.setLootTable((lootTable == null) ? null : lootTable.clone());
     }
 
     @Override
     public void setElement(String element) {
-        this.element = (element == null || element.trim().isEmpty()) ? "NONE" : element.trim().toUpperCase();
+        this.element = Element.parse(element);
     }
 
     @Override
     public void setAIBehavior(String aiBehavior) {
-        this.aiBehavior = (aiBehavior == null || aiBehavior.trim().isEmpty()) ? "AGGRESSIVE" : aiBehavior.trim().toUpperCase();
+        this.aiBehavior = AIBehavior.parse(aiBehavior);
+    }
+
+    @Override
+    public void setElementCode(Element element) {
+        this.element = (element == null) ? Element.NONE : element;
+    }
+
+    @Override
+    public void setAIBehaviorCode(AIBehavior aiBehavior) {
+        this.aiBehavior = (aiBehavior == null) ? AIBehavior.AGGRESSIVE : aiBehavior;
     }
 
     @Override
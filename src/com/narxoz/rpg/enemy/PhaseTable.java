@@ -0,0 +1,205 @@
+package com.narxoz.rpg.enemy;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable boss phase table: phase number -> HP threshold, stored in sorted int arrays.
+ *
+ * A phase is active once the boss HP drops to (or below) its threshold.
+ * currentPhase(hp) answers "which phase am I in" with a binary search and
+ * no allocation, so combat code can call it on every damage tick.
+ *
+ * Being immutable, a table is shared freely between templates and clones;
+ * with() returns a new table instead of modifying this one.
+ */
+public final class PhaseTable {
+
+    public static final PhaseTable EMPTY = new PhaseTable(new int[0], new int[0]);
+
+    // Sorted by phase number (for lookups and display)
+    private final int[] phases;
+    private final int[] thresholds;
+
+    // Sorted by threshold ascending, with the highest phase number reachable from each index
+    private final int[] sortedThresholds;
+    private final int[] highestPhaseFrom;
+
+    private PhaseTable(int[] phases, int[] thresholds) {
+        this.phases = phases;
+        this.thresholds = thresholds;
+
+        int n = phases.length;
+        long[] byThreshold = new long[n];
+        for (int i = 0; i < n; i++) {
+            // pack (threshold, phase) so a single sort orders by threshold, then phase
+            byThreshold[i] = ((long) thresholds[i] << 32) | (phases[i] & 0xFFFFFFFFL);
+        }
+        Arrays.sort(byThreshold);
+
+        this.sortedThresholds = new int[n];
+        this.highestPhaseFrom = new int[n];
+        int highest = 0;
+        for (int i = n - 1; i >= 0; i--) {
+            sortedThresholds[i] = (int) (byThreshold[i] >> 32);
+            highest = Math.max(highest, (int) byThreshold[i]);
+            highestPhaseFrom[i] = highest;
+        }
+    }
+
+    /**
+     * Builds a table from parallel arrays; entries with a non-positive phase
+     * or threshold are skipped, and a repeated phase keeps its last threshold.
+     */
+    public static PhaseTable of(int[] phaseNumbers, int[] healthThresholds) {
+        if (phaseNumbers.length != healthThresholds.length) {
+            throw new IllegalArgumentException("Phase and threshold arrays differ in length");
+        }
+        PhaseTable table = EMPTY;
+        for (int i = 0; i < phaseNumbers.length; i++) {
+            table = table.with(phaseNumbers[i], healthThresholds[i]);
+        }
+        return table;
+    }
+
+    /**
+     * Builds a table from the legacy phase -> threshold map.
+     */
+    public static PhaseTable of(Map<Integer, Integer> phaseMap) {
+        PhaseTable table = EMPTY;
+        for (Map.Entry<Integer, Integer> e : phaseMap.entrySet()) {
+            table = table.with(e.getKey(), e.getValue());
+        }
+        return table;
+    }
+
+    /**
+     * @return a table with the phase added or its threshold replaced
+     *         (this table if the phase or threshold is not positive)
+     */
+    public PhaseTable with(int phaseNumber, int healthThreshold) {
+        if (phaseNumber <= 0 || healthThreshold <= 0) return this;
+
+        int index = Arrays.binarySearch(phases, phaseNumber);
+        if (index >= 0) {
+            if (thresholds[index] == healthThreshold) return this;
+            int[] newThresholds = thresholds.clone();
+            newThresholds[index] = healthThreshold;
+            return new PhaseTable(phases, newThresholds);
+        }
+
+        int insert = -index - 1;
+        int n = phases.length;
+        int[] newPhases = new int[n + 1];
+        int[] newThresholds = new int[n + 1];
+        System.arraycopy(phases, 0, newPhases, 0, insert);
+        System.arraycopy(thresholds, 0, newThresholds, 0, insert);
+        newPhases[insert] = phaseNumber;
+        newThresholds[insert] = healthThreshold;
+        System.arraycopy(phases, insert, newPhases, insert + 1, n - insert);
+        System.arraycopy(thresholds, insert, newThresholds, insert + 1, n - insert);
+        return new PhaseTable(newPhases, newThresholds);
+    }
+
+    // ----------------------------------------------------------------------
+    // Allocation-free reads
+    // ----------------------------------------------------------------------
+
+    /**
+     * @return the active phase at the given HP: the highest phase whose threshold
+     *         is at or above hp, or 0 if hp is above every threshold (or no phases)
+     */
+    public int currentPhase(int hp) {
+        int lo = 0;
+        int hi = sortedThresholds.length;
+        // first index with threshold >= hp
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sortedThresholds[mid] < hp) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return (lo == sortedThresholds.length) ? 0 : highestPhaseFrom[lo];
+    }
+
+    /**
+     * @return the highest threshold below hp, i.e. the HP at (or below) which
+     *         currentPhase() changes next, or 0 if no phase is left
+     */
+    public int nextThreshold(int hp) {
+        int lo = 0;
+        int hi = sortedThresholds.length;
+        // first index with threshold >= hp
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sortedThresholds[mid] < hp) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return (lo == 0) ? 0 : sortedThresholds[lo - 1];
+    }
+
+    /**
+     * @return threshold of the phase, or 0 if the phase is not defined
+     */
+    public int thresholdOf(int phaseNumber) {
+        int index = Arrays.binarySearch(phases, phaseNumber);
+        return (index >= 0) ? thresholds[index] : 0;
+    }
+
+    public int size() {
+        return phases.length;
+    }
+
+    public boolean isEmpty() {
+        return phases.length == 0;
+    }
+
+    /**
+     * @return phase number at position {@code index} (ascending phase order)
+     */
+    public int phaseAt(int index) {
+        return phases[index];
+    }
+
+    /**
+     * @return threshold at position {@code index} (ascending phase order)
+     */
+    public int thresholdAt(int index) {
+        return thresholds[index];
+    }
+
+    /**
+     * Compatibility view for Enemy.getPhases(): a new mutable phase -> threshold map.
+     */
+    public Map<Integer, Integer> toMap() {
+        Map<Integer, Integer> map = new HashMap<>();
+        for (int i = 0; i < phases.length; i++) {
+            map.put(phases[i], thresholds[i]);
+        }
+        return map;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PhaseTable)) return false;
+        PhaseTable other = (PhaseTable) o;
+        return Arrays.equals(phases, other.phases) && Arrays.equals(thresholds, other.thresholds);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(phases) + Arrays.hashCode(thresholds);
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+}
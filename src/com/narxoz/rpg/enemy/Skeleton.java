@@ -4,7 +4,6 @@ import com.narxoz.rpg.combat.Ability;
 import com.narxoz.rpg.loot.LootTable;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -16,7 +15,8 @@ import java.util.Map;
  * - Similar complexity to Goblin, but a bit tankier and slower.
  *
  * Prototype:
- * - clone() MUST deep-copy abilities + loot table + phases map.
+ * - clone() MUST deep-copy abilities + loot table (phases are an immutable PhaseTable).
+ * - copyOnWriteClone() shares them instead until the first mutation.
  */
 public class Skeleton implements Enemy {
 
@@ -28,15 +28,11 @@ public class Skeleton implements Enemy {
     private int speed;
 
     // --- Theme / behavior ---
-    private String element;      // e.g. "NONE", "SHADOW"
-    private String aiBehavior;   // e.g. "TACTICAL", "DEFENSIVE"
+    private Element element;        // e.g. NONE, SHADOW
+    private AIBehavior aiBehavior;  // e.g. TACTICAL, DEFENSIVE
 
-    // --- Components ---
-    private List<Ability> abilities;
-    private LootTable lootTable;
-
-    // --- Boss phases (optional; for Skeleton usually empty) ---
-    private Map<Integer, Integer> phases;
+    // --- Components: abilities + loot + boss phases (optional; for Skeleton usually empty) ---
+    private CopyOnWriteComponents components;
 
     public Skeleton(String name) {
         this.name = name;
@@ -47,12 +43,10 @@ public class Skeleton implements Enemy {
         this.defense = 12;
         this.speed = 20;
 
-        this.element = "NONE";
-        this.aiBehavior = "TACTICAL";
+        this.element = Element.NONE;
+        this.aiBehavior = AIBehavior.TACTICAL;
 
-        this.abilities = new ArrayList<>();
-        this.phases = new HashMap<>();
-        this.lootTable = null;
+        this.components = new CopyOnWriteComponents();
     }
 
     // -------------------------
@@ -85,27 +79,58 @@ public class Skeleton implements Enemy {
 
     @Override
     public String getElement() {
-        return element;
+        return element.name();
     }
 
     @Override
     public String getAIBehavior() {
+        return aiBehavior.name();
+    }
+
+    @Override
+    public Element getElementType() {
+        return element;
+    }
+
+    @Override
+    public AIBehavior getAIBehaviorType() {
         return aiBehavior;
     }
 
     @Override
     public List<Ability> getAbilities() {
-        return abilities;
+        // copy: components may be shared with a copy-on-write clone
+        return new ArrayList<>(components.abilities());
+    }
+
+    @Override
+    public List<Ability> abilitiesView() {
+        return components.abilitiesView();
+    }
+
+    @Override
+    public int abilityCount() {
+        return components.abilities().size();
+    }
+
+    @Override
+    public Ability getAbility(int index) {
+        return components.abilities().get(index);
     }
 
     @Override
     public LootTable getLootTable() {
-        return lootTable;
+        return components.lootTable();
     }
 
     @Override
     public Map<Integer, Integer> getPhases() {
-        return phases;
+        return components.phases().toMap();
+    }
+
+    @Override
+    public PhaseTable getPhaseTable() {
+        return components.phases();
     }
 
     @Override
@@ -115,18 +140,21 @@ public class Skeleton implements Enemy {
                 + " | Defense: " + defense + " | Speed: " + speed);
         System.out.println("Element: " + element + " | AI: " + aiBehavior);
 
+        List<Ability> abilities = components.abilities();
         System.out.println("Abilities: " + abilities.size());
         for (Ability a : abilities) {
             System.out.println("  - " + a.getName() + " (" + a.getDamage() + "): " + a.getDescription());
         }
 
-        if (phases != null && !phases.isEmpty()) {
+        PhaseTable phases = components.phases();
+        if (!phases.isEmpty()) {
             System.out.println("Boss Phases: " + phases.size());
-            for (Map.Entry<Integer, Integer> e : phases.entrySet()) {
-                System.out.println("  Phase " + e.getKey() + ": triggers at " + e.getValue() + " HP");
+            for (int i = 0; i < phases.size(); i++) {
+                System.out.println("  Phase " + phases.phaseAt(i) + ": triggers at " + phases.thresholdAt(i) + " HP");
             }
         }
 
+        LootTable lootTable = components.lootTable();
         if (lootTable != null) {
             System.out.println(lootTable.getLootInfo());
         } else {
@@ -140,32 +168,54 @@ public class Skeleton implements Enemy {
     @Override
     public Enemy clone() {
         // DEEP COPY: clone must copy abilities + loot independently (no shared references).
-        Skeleton copy = new Skeleton(this.name);
+        return new Skeleton(this, this.components.deepCopy());
+    }
 
-        // primitives / strings
-        copy.health = this.health;
-        copy.damage = this.damage;
-        copy.defense = this.defense;
-        copy.speed = this.speed;
-        copy.element = this.element;
-        copy.aiBehavior = this.aiBehavior;
-
-        // deep-copy abilities
-        copy.abilities = new ArrayList<>();
-        for (Ability a : this.abilities) {
-            copy.abilities.add(a.clone());
-        }
+    /**
+     * Copy-on-write clone: shares abilities/loot/phases with this skeleton
+     * until one of the two is mutated.
+     */
+    @Override
+    public Enemy copyOnWriteClone() {
+        return new Skeleton(this, this.components.share());
+    }
 
-        // deep-copy loot table
-        copy.lootTable = (this.lootTable == null) ? null : this.lootTable.clone();
+    /**
+     * Spawn from a frozen template (see EnemySnapshot.instantiate()).
+     */
+    Skeleton(EnemySnapshot snapshot, CopyOnWriteComponents components) {
+        this.name = snapshot.getName();
+        this.health = snapshot.getHealth();
+        this.damage = snapshot.getDamage();
+        this.defense = snapshot.getDefense();
+        this.speed = snapshot.getSpeed();
 
-        // copy phases map (even if empty)
-        copy.phases = new HashMap<>();
-        if (this.phases != null) {
-            copy.phases.putAll(this.phases);
-        }
+        this.element = snapshot.getElementType();
+        this.aiBehavior = snapshot.getAIBehaviorType();
+
+        this.components = components;
+    }
+
+    @Override
+    public EnemySnapshot snapshot() {
+        return new EnemySnapshot(EnemySnapshot.Kind.SKELETON, name, health, damage, defense, speed,
+                element, aiBehavior,
+                components.abilities(), components.phases(), components.lootTable(),
+                false, false, 0);
+    }
+
+    private Skeleton(Skeleton source, CopyOnWriteComponents components) {
+        this.name = source.name;
 
-        return copy;
+        // primitives / strings
+        this.health = source.health;
+        this.damage = source.damage;
+        this.defense = source.defense;
+        this.speed = source.speed;
+        this.element = source.element;
+        this.aiBehavior = source.aiBehavior;
+
+        this.components = components;
     }
 
     // -------------------------
@@ -174,32 +224,43 @@ public class Skeleton implements Enemy {
     @Override
     public void addAbility(Ability ability) {
         if (ability == null) return;
-        this.abilities.add(ability);
+        components.addAbility(ability);
     }
 
     @Override
     public void setAbilities(List<Ability> abilities) {
-        this.abilities = new ArrayList<>();
+        List<Ability> copy = new ArrayList<>();
         if (abilities != null) {
             for (Ability a : abilities) {
-                this.abilities.add(a);
+                copy.add(a);
             }
         }
+        components.replaceAbilities(copy);
     }
 
     @Override
     public void setLootTable(LootTable lootTable) {
-        this.lootTable = lootTable;
+        components.setLootTable(lootTable);
     }
 
     @Override
     public void setElement(String element) {
-        this.element = (element == null || element.isBlank()) ? "NONE" : element;
+        this.element = (element == null || element.isBlank()) ? Element.NONE : Element.of(element);
     }
 
     @Override
     public void setAIBehavior(String aiBehavior) {
-        this.aiBehavior = (aiBehavior == null || aiBehavior.isBlank()) ? "TACTICAL" : aiBehavior;
+        this.aiBehavior = (aiBehavior == null || aiBehavior.isBlank()) ? AIBehavior.TACTICAL : AIBehavior.of(aiBehavior);
+    }
+
+    @Override
+    public void setElementCode(Element element) {
+        this.element = (element == null) ? Element.NONE : element;
+    }
+
+    @Override
+    public void setAIBehaviorCode(AIBehavior aiBehavior) {
+        this.aiBehavior = (aiBehavior == null) ? AIBehavior.TACTICAL : aiBehavior;
     }
 
     @Override
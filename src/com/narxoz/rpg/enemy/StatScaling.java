@@ -0,0 +1,52 @@
+package com.narxoz.rpg.enemy;
+
+/**
+ * Bulk stat scaling over int columns, with exactly the rounding of
+ * Enemy.multiplyStats(): {@code (int) Math.round(value * multiplier)}.
+ *
+ * Fast path: typical difficulty multipliers (2.0, 5.0, 1.5, 0.75, ...) are
+ * factor / 2^shift with a small integer factor. Then value * multiplier is exact
+ * in double, and Math.round of it equals (value * factor + half) >> shift in long
+ * arithmetic, a plain integer loop the JIT unrolls and vectorizes.
+ * Any other multiplier (1.1, NaN, ...) uses the Math.round loop.
+ */
+public final class StatScaling {
+
+    // |value| < 2^31, so value * factor stays below 2^53 (exact in a double)
+    private static final double MAX_EXACT_FACTOR = 1 << 22;
+
+    private StatScaling() {
+    }
+
+    /**
+     * Scalar reference: same result as one stat in Enemy.multiplyStats().
+     */
+    public static int scale(int value, double multiplier) {
+        return (int) Math.round(value * multiplier);
+    }
+
+    /**
+     * values[i] = (int) Math.round(values[i] * multiplier) for i in [from, to).
+     */
+    public static void scale(int[] values, int from, int to, double multiplier) {
+        for (int shift = 0; shift < 63; shift++) {
+            double scaled = Math.scalb(multiplier, shift);
+            if (!(Math.abs(scaled) <= MAX_EXACT_FACTOR)) break; // also NaN / infinity
+            if (scaled == Math.rint(scaled)) {
+                scaleExact(values, from, to, (long) scaled, shift);
+                return;
+            }
+        }
+        for (int i = from; i < to; i++) {
+            values[i] = (int) Math.round(values[i] * multiplier);
+        }
+    }
+
+    private static void scaleExact(int[] values, int from, int to, long factor, int shift) {
+        long half = (shift == 0) ? 0 : 1L << (shift - 1);
+        for (int i = from; i < to; i++) {
+            // >> is floor division, so this is floor(value * multiplier + 0.5) = Math.round
+            values[i] = (int) ((values[i] * factor + half) >> shift);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.narxoz.rpg.enemy;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.loot.LootTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Standalone enemy copied out of an EnemyStore row.
+ *
+ * The store keeps no concrete type per row, so a row view that is cloned or
+ * registered as a template becomes one of these: the same stats, codes and
+ * components, but its own fields instead of the store's columns. It never
+ * touches the store it came from, so it can outlive clear()/removeSwap() and
+ * be handed to other threads.
+ *
+ * Prototype: clone() deep-copies abilities and loot, copyOnWriteClone() shares
+ * them until the first mutation (same rules as Goblin).
+ */
+final class StoredEnemy implements Enemy {
+
+    private final String name;
+    private int health;
+    private int damage;
+    private int defense;
+    private int speed;
+
+    private Element element;
+    private AIBehavior aiBehavior;
+
+    private final CopyOnWriteComponents components;
+
+    /**
+     * Copy of a store row (see EnemyStore views).
+     */
+    StoredEnemy(String name, int health, int damage, int defense, int speed,
+                Element element, AIBehavior aiBehavior, CopyOnWriteComponents components) {
+        this.name = name;
+        this.health = health;
+        this.damage = damage;
+        this.defense = defense;
+        this.speed = speed;
+        this.element = element;
+        this.aiBehavior = aiBehavior;
+        this.components = components;
+    }
+
+    /**
+     * Spawn from a frozen template (see EnemySnapshot.instantiate()).
+     */
+    StoredEnemy(EnemySnapshot snapshot, CopyOnWriteComponents components) {
+        this(snapshot.getName(), snapshot.getHealth(), snapshot.getDamage(), snapshot.getDefense(),
+                snapshot.getSpeed(), snapshot.getElementType(), snapshot.getAIBehaviorType(), components);
+    }
+
+    private StoredEnemy(StoredEnemy source, CopyOnWriteComponents components) {
+        this(source.name, source.health, source.damage, source.defense, source.speed,
+                source.element, source.aiBehavior, components);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getHealth() {
+        return health;
+    }
+
+    @Override
+    public int getDamage() {
+        return damage;
+    }
+
+    @Override
+    public int getDefense() {
+        return defense;
+    }
+
+    @Override
+    public int getSpeed() {
+        return speed;
+    }
+
+    @Override
+    public String getElement() {
+        return element.name();
+    }
+
+    @Override
+    public String getAIBehavior() {
+        return aiBehavior.name();
+    }
+
+    @Override
+    public Element getElementType() {
+        return element;
+    }
+
+    @Override
+    public AIBehavior getAIBehaviorType() {
+        return aiBehavior;
+    }
+
+    @Override
+    public List<Ability> getAbilities() {
+        return new ArrayList<>(components.abilities());
+    }
+
+    @Override
+    public List<Ability> abilitiesView() {
+        return components.abilitiesView();
+    }
+
+    @Override
+    public int abilityCount() {
+        return components.abilities().size();
+    }
+
+    @Override
+    public Ability getAbility(int index) {
+        return components.abilities().get(index);
+    }
+
+    @Override
+    public LootTable getLootTable() {
+        return components.lootTable();
+    }
+
+    @Override
+    public Map<Integer, Integer> getPhases() {
+        return components.phases().toMap();
+    }
+
+    @Override
+    public PhaseTable getPhaseTable() {
+        return components.phases();
+    }
+
+    @Override
+    public void displayInfo() {
+        System.out.println("=== " + name + " (Stored) ===");
+        System.out.println("Health: " + health + " | Damage: " + damage
+                + " | Defense: " + defense + " | Speed: " + speed);
+        System.out.println("Element: " + element + " | AI: " + aiBehavior);
+
+        List<Ability> abilities = components.abilities();
+        System.out.println("Abilities: " + abilities.size());
+        for (Ability a : abilities) {
+            System.out.println("  - " + a.getName() + " (" + a.getDamage() + "): " + a.getDescription());
+        }
+
+        LootTable lootTable = components.lootTable();
+        System.out.println((lootTable != null) ? lootTable.getLootInfo() : "No loot table set.");
+    }
+
+    @Override
+    public Enemy clone() {
+        return new StoredEnemy(this, components.deepCopy());
+    }
+
+    @Override
+    public Enemy copyOnWriteClone() {
+        return new StoredEnemy(this, components.share());
+    }
+
+    @Override
+    public EnemySnapshot snapshot() {
+        return new EnemySnapshot(EnemySnapshot.Kind.STORED, name, health, damage, defense, speed,
+                element, aiBehavior,
+                components.abilities(), components.phases(), components.lootTable(),
+                false, false, 0);
+    }
+
+    @Override
+    public void addAbility(Ability ability) {
+        if (ability == null) return;
+        components.addAbility(ability);
+    }
+
+    @Override
+    public void setAbilities(List<Ability> abilities) {
+        List<Ability> copies = new ArrayList<>();
+        if (abilities != null) {
+            for (Ability a : abilities) {
+                copies.add(a.clone());
+            }
+        }
+        components.replaceAbilities(copies);
+    }
+
+    @Override
+    public void setLootTable(LootTable lootTable) {
+        components.setLootTable((lootTable == null) ? null : lootTable.clone());
+    }
+
+    @Override
+    public void setElement(String element) {
+        this.element = Element.parse(element);
+    }
+
+    @Override
+    public void setAIBehavior(String aiBehavior) {
+        this.aiBehavior = AIBehavior.parse(aiBehavior);
+    }
+
+    @Override
+    public void setElementCode(Element element) {
+        this.element = (element == null) ? Element.NONE : element;
+    }
+
+    @Override
+    public void setAIBehaviorCode(AIBehavior aiBehavior) {
+        this.aiBehavior = (aiBehavior == null) ? AIBehavior.AGGRESSIVE : aiBehavior;
+    }
+
+    /**
+     * Same rounding as EnemyStore.multiplyStats(), so a row scales the same before and after detaching.
+     */
+    @Override
+    public void multiplyStats(double multiplier) {
+        if (multiplier <= 0) return;
+        this.health = StatScaling.scale(health, multiplier);
+        this.damage = StatScaling.scale(damage, multiplier);
+        this.defense = StatScaling.scale(defense, multiplier);
+        this.speed = StatScaling.scale(speed, multiplier);
+    }
+}
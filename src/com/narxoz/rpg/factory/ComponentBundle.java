@@ -0,0 +1,45 @@
+package com.narxoz.rpg.factory;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.enemy.AIBehavior;
+import com.narxoz.rpg.loot.LootTable;
+
+import java.util.List;
+
+/**
+ * Immutable themed component family (abilities + loot + AI) from one factory.
+ *
+ * A concrete factory builds its bundle once and hands out the same instance:
+ * the ability list is unmodifiable and holds shared flyweight abilities, and the
+ * loot table is immutable, so enemies/builders can use them without copying.
+ */
+public final class ComponentBundle {
+
+    private final List<Ability> abilities;
+    private final LootTable lootTable;
+    private final AIBehavior aiBehavior;
+
+    public ComponentBundle(List<Ability> abilities, LootTable lootTable, AIBehavior aiBehavior) {
+        if (abilities == null || lootTable == null || aiBehavior == null) {
+            throw new IllegalArgumentException("Bundle components cannot be null");
+        }
+        this.abilities = List.copyOf(abilities);
+        this.lootTable = lootTable;
+        this.aiBehavior = aiBehavior;
+    }
+
+    /**
+     * @return unmodifiable list of shared abilities
+     */
+    public List<Ability> getAbilities() {
+        return abilities;
+    }
+
+    public LootTable getLootTable() {
+        return lootTable;
+    }
+
+    public AIBehavior getAIBehavior() {
+        return aiBehavior;
+    }
+}
@@ -1,8 +1,10 @@
 package com.narxoz.rpg.factory;
 
 import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.enemy.AIBehavior;
 import com.narxoz.rpg.loot.LootTable;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -69,6 +71,9 @@ public interface EnemyComponentFactory {
      * Create the set of abilities for this theme.
      * Example: FireComponentFactory returns [FlameBreath, FireShield, MeteorStorm]
      *
+     * The themed factories return their cached, UNMODIFIABLE list
+     * (see getComponents()); use createFreshAbilities() for a list you can change.
+     *
      * @return list of themed abilities
      */
     List<Ability> createAbilities();
@@ -77,19 +82,49 @@ public interface EnemyComponentFactory {
      * Create the loot table for this theme.
      * Example: FireComponentFactory returns a loot table with Fire Gems, Dragon Scales, etc.
      *
+     * The themed factories return their cached, immutable table;
+     * use createFreshLootTable() for a private copy.
+     *
      * @return themed loot table
      */
     LootTable createLootTable();
 
+    /**
+     * The whole themed family at once.
+     * Themed factories compute it once and always return the same bundle;
+     * the default builds a new one from the three create methods.
+     */
+    default ComponentBundle getComponents() {
+        return new ComponentBundle(createAbilities(), createLootTable(), createAIBehavior());
+    }
+
+    /**
+     * Opt-in: a new mutable list with new ability copies.
+     */
+    default List<Ability> createFreshAbilities() {
+        List<Ability> copies = new ArrayList<>();
+        for (Ability a : createAbilities()) {
+            copies.add(a.clone());
+        }
+        return copies;
+    }
+
+    /**
+     * Opt-in: a private copy of the loot table.
+     */
+    default LootTable createFreshLootTable() {
+        return createLootTable().clone();
+    }
+
     /**
      * Get the AI behavior type for this theme.
-     * Example: FireComponentFactory returns "AGGRESSIVE"
+     * Example: FireComponentFactory returns AIBehavior.AGGRESSIVE
      *
-     * Think: Should this return a String, an enum, or an object?
-     * Design decision is yours!
+     * Returns the interned AIBehavior code (not a String), so themed enemies
+     * carry it without any parsing; use AIBehavior.parse() for string configs.
      *
-     * @return AI behavior description or type
+     * @return AI behavior type
      */
-    String createAIBehavior();
+    AIBehavior createAIBehavior();
 
 }
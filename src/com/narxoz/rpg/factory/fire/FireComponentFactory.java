@@ -3,11 +3,12 @@ package com.narxoz.rpg.factory.fire;
 import com.narxoz.rpg.combat.Ability;
 import com.narxoz.rpg.combat.fire.FlameBreath;
 import com.narxoz.rpg.combat.fire.FireShield;
+import com.narxoz.rpg.enemy.AIBehavior;
+import com.narxoz.rpg.factory.ComponentBundle;
 import com.narxoz.rpg.factory.EnemyComponentFactory;
 import com.narxoz.rpg.loot.LootTable;
 import com.narxoz.rpg.loot.fire.FireLootTable;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -17,21 +18,29 @@ import java.util.List;
  */
 
 public class FireComponentFactory implements EnemyComponentFactory {
+    // Built once per factory; every call hands out the same immutable components
+    private final ComponentBundle components = new ComponentBundle(
+            List.of(new FlameBreath(), new FireShield()),
+            new FireLootTable(),
+            AIBehavior.AGGRESSIVE);
+
     @Override
     public List<Ability> createAbilities() {
-        List<Ability> abilities = new ArrayList<>();
-        abilities.add(new FlameBreath());
-        abilities.add(new FireShield());
-        return abilities;
+        return components.getAbilities();
     }
 
     @Override
     public LootTable createLootTable() {
-        return new FireLootTable();
+        return components.getLootTable();
+    }
+
+    @Override
+    public ComponentBundle getComponents() {
+        return components;
     }
 
     @Override
-    public String createAIBehavior() {
-        return "AGGRESSIVE";
+    public AIBehavior createAIBehavior() {
+        return components.getAIBehavior();
     }
 }
@@ -3,11 +3,12 @@ package com.narxoz.rpg.factory.ice;
 import com.narxoz.rpg.combat.Ability;
 import com.narxoz.rpg.combat.ice.FrostBreath;
 import com.narxoz.rpg.combat.ice.IceShield;
+import com.narxoz.rpg.enemy.AIBehavior;
+import com.narxoz.rpg.factory.ComponentBundle;
 import com.narxoz.rpg.factory.EnemyComponentFactory;
 import com.narxoz.rpg.loot.LootTable;
 import com.narxoz.rpg.loot.ice.IceLootTable;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -15,21 +16,29 @@ import java.util.List;
  */
 
 public class IceComponentFactory implements EnemyComponentFactory {
+    // Built once per factory; every call hands out the same immutable components
+    private final ComponentBundle components = new ComponentBundle(
+            List.of(new FrostBreath(), new IceShield()),
+            new IceLootTable(),
+            AIBehavior.DEFENSIVE);
+
     @Override
     public List<Ability> createAbilities() {
-        List<Ability> abilities = new ArrayList<>();
-        abilities.add(new FrostBreath());
-        abilities.add(new IceShield());
-        return abilities;
+        return components.getAbilities();
     }
 
     @Override
     public LootTable createLootTable() {
-        return new IceLootTable();
+        return components.getLootTable();
+    }
+
+    @Override
+    public ComponentBundle getComponents() {
+        return components;
     }
 
     @Override
-    public String createAIBehavior() {
-        return "DEFENSIVE";
+    public AIBehavior createAIBehavior() {
+        return components.getAIBehavior();
     }
 }
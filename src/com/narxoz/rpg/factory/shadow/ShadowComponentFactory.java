@@ -3,11 +3,12 @@ package com.narxoz.rpg.factory.shadow;
 import com.narxoz.rpg.combat.Ability;
 import com.narxoz.rpg.combat.shadow.ShadowStrike;
 import com.narxoz.rpg.combat.shadow.Vanish;
+import com.narxoz.rpg.enemy.AIBehavior;
+import com.narxoz.rpg.factory.ComponentBundle;
 import com.narxoz.rpg.factory.EnemyComponentFactory;
 import com.narxoz.rpg.loot.LootTable;
 import com.narxoz.rpg.loot.shadow.ShadowLootTable;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -16,21 +17,29 @@ import java.util.List;
 
 
 public class ShadowComponentFactory implements EnemyComponentFactory {
+    // Built once per factory; every call hands out the same immutable components
+    private final ComponentBundle components = new ComponentBundle(
+            List.of(new ShadowStrike(), new Vanish()),
+            new ShadowLootTable(),
+            AIBehavior.TACTICAL);
+
     @Override
     public List<Ability> createAbilities() {
-        List<Ability> abilities = new ArrayList<>();
-        abilities.add(new ShadowStrike());
-        abilities.add(new Vanish());
-        return abilities;
+        return components.getAbilities();
     }
 
     @Override
     public LootTable createLootTable() {
-        return new ShadowLootTable();
+        return components.getLootTable();
+    }
+
+    @Override
+    public ComponentBundle getComponents() {
+        return components;
     }
 
     @Override
-    public String createAIBehavior() {
-        return "TACTICAL";
+    public AIBehavior createAIBehavior() {
+        return components.getAIBehavior();
     }
 }
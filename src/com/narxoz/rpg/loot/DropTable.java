@@ -0,0 +1,270 @@
+package com.narxoz.rpg.loot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Weighted drop table: each entry has a weight and a quantity range,
+ * and a kill rolls the table {@code rollsPerKill} times.
+ *
+ * A Walker alias table is built once in the constructor, so every roll is
+ * O(1) (one bucket pick + one coin flip) whatever the number of entries,
+ * and rolling allocates nothing.
+ *
+ * Immutable and thread-safe; share one instance between all clones of a loot table.
+ */
+public final class DropTable {
+
+    private final String[] items;        // null = "nothing drops"
+    private final int[] itemIds;         // ItemDictionary IDs, -1 = "nothing drops"
+    private final double[] weights;
+    private final int[] minQuantity;
+    private final int[] maxQuantity;
+    private final int rollsPerKill;
+
+    // Walker alias table
+    private final double[] probability;
+    private final int[] alias;
+
+    private DropTable(Builder builder) {
+        int n = builder.items.size();
+        if (n == 0) {
+            throw new IllegalArgumentException("Drop table needs at least one entry");
+        }
+        this.items = builder.items.toArray(new String[0]);
+        this.itemIds = new int[n];
+        this.weights = new double[n];
+        this.minQuantity = new int[n];
+        this.maxQuantity = new int[n];
+        for (int i = 0; i < n; i++) {
+            itemIds[i] = (items[i] == null) ? -1 : ItemDictionary.idOf(items[i]);
+            weights[i] = builder.weights.get(i);
+            minQuantity[i] = builder.minQuantities.get(i);
+            maxQuantity[i] = builder.maxQuantities.get(i);
+        }
+        this.rollsPerKill = builder.rollsPerKill;
+
+        this.probability = new double[n];
+        this.alias = new int[n];
+        buildAliasTable();
+    }
+
+    /**
+     * Vose's variant of the alias method: split entries into buckets of size 1/n,
+     * each holding at most two entries (itself and an alias).
+     */
+    private void buildAliasTable() {
+        int n = weights.length;
+        double total = 0;
+        for (double w : weights) total += w;
+
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // leftovers are 1.0 up to rounding error
+        while (largeCount > 0) {
+            int i = large[--largeCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+        while (smallCount > 0) {
+            int i = small[--smallCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Equal weights, quantity 1, one roll per kill.
+     */
+    public static DropTable uniform(List<String> items) {
+        Builder builder = builder();
+        for (String item : items) {
+            builder.add(item, 1);
+        }
+        return builder.build();
+    }
+
+    // ----------------------------------------------------------------------
+    // Rolling (O(1), allocation-free)
+    // ----------------------------------------------------------------------
+
+    /**
+     * @return index of one weighted entry
+     */
+    public int sample(SplittableRandom random) {
+        int bucket = random.nextInt(items.length);
+        return (random.nextDouble() < probability[bucket]) ? bucket : alias[bucket];
+    }
+
+    /**
+     * @return a quantity in the entry's [min, max] range
+     */
+    public int rollQuantity(int index, SplittableRandom random) {
+        int min = minQuantity[index];
+        int max = maxQuantity[index];
+        if (min == max) return min;
+        int span = max - min + 1;
+        // span overflows only for [0, Integer.MAX_VALUE]; draw that one as a long
+        return (span > 0) ? min + random.nextInt(span) : (int) random.nextLong(min, max + 1L);
+    }
+
+    /**
+     * Rolls one kill: {@code rollsPerKill} weighted picks; "nothing" entries are skipped.
+     */
+    public void roll(SplittableRandom random, LootSink sink) {
+        for (int r = 0; r < rollsPerKill; r++) {
+            int index = sample(random);
+            String item = items[index];
+            if (item != null) {
+                sink.accept(item, rollQuantity(index, random));
+            }
+        }
+    }
+
+    /**
+     * Same as roll(), reporting item IDs instead of names.
+     */
+    public void rollIds(SplittableRandom random, ItemIdSink sink) {
+        for (int r = 0; r < rollsPerKill; r++) {
+            int index = sample(random);
+            int itemId = itemIds[index];
+            if (itemId >= 0) {
+                sink.accept(itemId, rollQuantity(index, random));
+            }
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Read-only accessors
+    // ----------------------------------------------------------------------
+
+    public int size() {
+        return items.length;
+    }
+
+    public int getRollsPerKill() {
+        return rollsPerKill;
+    }
+
+    /**
+     * @return item of the entry, or null for a "nothing drops" entry
+     */
+    public String getItem(int index) {
+        return items[index];
+    }
+
+    /**
+     * @return ItemDictionary ID of the entry, or -1 for a "nothing drops" entry
+     */
+    public int getItemId(int index) {
+        return itemIds[index];
+    }
+
+    public double getWeight(int index) {
+        return weights[index];
+    }
+
+    public int getMinQuantity(int index) {
+        return minQuantity[index];
+    }
+
+    public int getMaxQuantity(int index) {
+        return maxQuantity[index];
+    }
+
+    /**
+     * @return chance that one roll picks this entry
+     */
+    public double getChance(int index) {
+        double total = 0;
+        for (double w : weights) total += w;
+        return weights[index] / total;
+    }
+
+    /**
+     * Collects the entries; build() computes the alias table.
+     */
+    public static final class Builder {
+        private final List<String> items = new ArrayList<>();
+        private final List<Double> weights = new ArrayList<>();
+        private final List<Integer> minQuantities = new ArrayList<>();
+        private final List<Integer> maxQuantities = new ArrayList<>();
+        private int rollsPerKill = 1;
+
+        private Builder() {
+        }
+
+        public Builder add(String item, double weight) {
+            return add(item, weight, 1, 1);
+        }
+
+        public Builder add(String item, double weight, int minQuantity, int maxQuantity) {
+            if (item == null || item.trim().isEmpty()) {
+                throw new IllegalArgumentException("Item name cannot be null/empty");
+            }
+            return entry(item, weight, minQuantity, maxQuantity);
+        }
+
+        /**
+         * Entry that drops nothing (e.g. "70% of rolls give nothing").
+         */
+        public Builder nothing(double weight) {
+            return entry(null, weight, 0, 0);
+        }
+
+        public Builder rollsPerKill(int rolls) {
+            if (rolls < 0) {
+                throw new IllegalArgumentException("Rolls per kill cannot be negative: " + rolls);
+            }
+            this.rollsPerKill = rolls;
+            return this;
+        }
+
+        private Builder entry(String item, double weight, int minQuantity, int maxQuantity) {
+            if (!(weight > 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Weight must be positive: " + weight);
+            }
+            if (minQuantity < 0 || maxQuantity < minQuantity) {
+                throw new IllegalArgumentException("Invalid quantity range: " + minQuantity + ".." + maxQuantity);
+            }
+            items.add(item);
+            weights.add(weight);
+            minQuantities.add(minQuantity);
+            maxQuantities.add(maxQuantity);
+            return this;
+        }
+
+        public DropTable build() {
+            return new DropTable(this);
+        }
+    }
+}
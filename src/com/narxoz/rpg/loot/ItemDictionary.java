@@ -0,0 +1,85 @@
+package com.narxoz.rpg.loot;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Global item dictionary: item name <-> compact int ID (0, 1, 2, ...).
+ *
+ * Loot tables, drop tables and inventories keep int IDs (int[] instead of
+ * List<String>); names are looked up only at the presentation edge
+ * (getItems(), getLootInfo(), UI).
+ *
+ * IDs are assigned on first use and never change or get reused while the
+ * process runs. Thread-safe: lookups are lock-free, new names take a lock.
+ */
+public final class ItemDictionary {
+
+    private static final ConcurrentHashMap<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[0];
+
+    private ItemDictionary() {
+    }
+
+    /**
+     * @return the ID of the item, registering the name if it is new
+     */
+    public static int idOf(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Item name cannot be null/empty");
+        }
+        Integer id = IDS.get(name);
+        if (id != null) return id;
+        synchronized (ItemDictionary.class) {
+            id = IDS.get(name);
+            if (id == null) {
+                String[] current = names;
+                String[] grown = Arrays.copyOf(current, current.length + 1);
+                grown[current.length] = name;
+                names = grown;
+                id = current.length;
+                IDS.put(name, id);
+            }
+            return id;
+        }
+    }
+
+    public static int[] idsOf(String... itemNames) {
+        int[] ids = new int[itemNames.length];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = idOf(itemNames[i]);
+        }
+        return ids;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the ID was never assigned
+     */
+    public static String nameOf(int id) {
+        String[] current = names;
+        if (id < 0 || id >= current.length) {
+            throw new IllegalArgumentException("Unknown item ID: " + id);
+        }
+        return current[id];
+    }
+
+    /**
+     * @return immutable list of the names, in the order of the IDs
+     */
+    public static List<String> namesOf(int[] ids) {
+        String[] result = new String[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            result[i] = nameOf(ids[i]);
+        }
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    /**
+     * @return number of item names registered so far
+     */
+    public static int size() {
+        return names.length;
+    }
+}
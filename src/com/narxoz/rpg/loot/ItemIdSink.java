@@ -0,0 +1,11 @@
+package com.narxoz.rpg.loot;
+
+/**
+ * Receives rolled drops as item IDs (see ItemDictionary), for inventory code
+ * that works on primitive arrays.
+ */
+@FunctionalInterface
+public interface ItemIdSink {
+
+    void accept(int itemId, int quantity);
+}
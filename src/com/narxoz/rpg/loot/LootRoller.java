@@ -0,0 +1,58 @@
+package com.narxoz.rpg.loot;
+
+import java.util.SplittableRandom;
+
+/**
+ * Roll engine: rolls DropTables with one SplittableRandom stream per thread.
+ *
+ * Streams are split from a root generator the first time a thread rolls,
+ * so threads never contend on a shared Random. With a fixed seed, a
+ * single-threaded run is reproducible.
+ */
+public final class LootRoller {
+
+    private final SplittableRandom root;  // guarded by this
+    private final ThreadLocal<SplittableRandom> streams = ThreadLocal.withInitial(this::newStream);
+
+    public LootRoller() {
+        this(new SplittableRandom());
+    }
+
+    public LootRoller(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private LootRoller(SplittableRandom root) {
+        this.root = root;
+    }
+
+    private synchronized SplittableRandom newStream() {
+        return root.split();
+    }
+
+    /**
+     * @return the calling thread's random stream
+     */
+    public SplittableRandom random() {
+        return streams.get();
+    }
+
+    /**
+     * Rolls one kill of the table on the calling thread's stream.
+     */
+    public void roll(DropTable table, LootSink sink) {
+        table.roll(streams.get(), sink);
+    }
+
+    public void roll(LootTable table, LootSink sink) {
+        table.getDropTable().roll(streams.get(), sink);
+    }
+
+    public void rollIds(DropTable table, ItemIdSink sink) {
+        table.rollIds(streams.get(), sink);
+    }
+
+    public void rollIds(LootTable table, ItemIdSink sink) {
+        table.getDropTable().rollIds(streams.get(), sink);
+    }
+}
@@ -0,0 +1,10 @@
+package com.narxoz.rpg.loot;
+
+/**
+ * Receives rolled drops (see DropTable.roll()), so rolling needs no result objects.
+ */
+@FunctionalInterface
+public interface LootSink {
+
+    void accept(String item, int quantity);
+}
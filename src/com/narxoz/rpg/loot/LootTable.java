@@ -1,6 +1,9 @@
 package com.narxoz.rpg.loot;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 /**
  * Interface for enemy loot/drop tables in the RPG system.
@@ -16,6 +19,49 @@ public interface LootTable {
      */
     List<String> getItems();
 
+    /**
+     * Read-only view of the items (no copy).
+     */
+    default List<String> itemsView() {
+        return Collections.unmodifiableList(getItems());
+    }
+
+    /**
+     * Allocation-free access for per-tick loot code.
+     */
+    default int itemCount() {
+        return getItems().size();
+    }
+
+    default String getItem(int index) {
+        return getItems().get(index);
+    }
+
+    /**
+     * Visits every item in order without copying the list.
+     */
+    default void forEachItem(Consumer<? super String> action) {
+        for (String item : getItems()) {
+            action.accept(item);
+        }
+    }
+
+    /**
+     * Item ID (see ItemDictionary) at {@code index}; names are only needed for display.
+     */
+    default int getItemId(int index) {
+        return ItemDictionary.idOf(getItem(index));
+    }
+
+    /**
+     * Visits every item ID in order.
+     */
+    default void forEachItemId(IntConsumer action) {
+        for (int i = 0; i < itemCount(); i++) {
+            action.accept(getItemId(i));
+        }
+    }
+
     /**
      * @return gold dropped by the enemy
      */
@@ -26,6 +72,15 @@ public interface LootTable {
      */
     int getExperienceDrop();
 
+    /**
+     * Weighted drops with quantity ranges, rolled by LootRoller.
+     * Default: every item equally likely, quantity 1, one roll per kill
+     * (built on every call, so implementations should return a shared instance).
+     */
+    default DropTable getDropTable() {
+        return DropTable.uniform(getItems());
+    }
+
     /**
      * Convenience method for demo output.
      */
@@ -1,8 +1,12 @@
 package com.narxoz.rpg.loot.fire;
+import com.narxoz.rpg.loot.DropTable;
+import com.narxoz.rpg.loot.ItemDictionary;
 import com.narxoz.rpg.loot.LootTable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 /**
  * Fire-themed loot table.
@@ -13,29 +17,78 @@ import java.util.List;
  */
 
 public class FireLootTable implements LootTable {
-    private final List<String> items;
+    // Shared by all instances and clones (immutable)
+    private static final DropTable DROPS = DropTable.builder()
+            .add("Fire Gem", 50, 1, 3)
+            .add("Flame Rune", 30, 1, 2)
+            .add("Dragon Scale", 10, 1, 1)
+            .nothing(10)
+            .rollsPerKill(2)
+            .build();
+
+    // Item IDs (see ItemDictionary), shared by all instances and clones (never modified)
+    private static final int[] ITEM_IDS = ItemDictionary.idsOf("Fire Gem", "Dragon Scale", "Flame Rune");
+    private static final List<String> ITEM_NAMES = ItemDictionary.namesOf(ITEM_IDS);
+
+    private final int[] itemIds;
     private final int goldDrop;
     private final int experienceDrop;
 
     public FireLootTable() {
-        this.items = new ArrayList<>();
-        items.add("Fire Gem");
-        items.add("Dragon Scale");
-        items.add("Flame Rune");
+        this.itemIds = ITEM_IDS;
 
         this.goldDrop = 500;
         this.experienceDrop = 1200;
     }
 
-    private FireLootTable(List<String> items, int goldDrop, int experienceDrop) {
-        this.items = items;
+    private FireLootTable(int[] itemIds, int goldDrop, int experienceDrop) {
+        this.itemIds = itemIds;
         this.goldDrop = goldDrop;
         this.experienceDrop = experienceDrop;
     }
 
     @Override
     public List<String> getItems() {
-        return new ArrayList<>(items); // defensive copy
+        return new ArrayList<>(ITEM_NAMES); // defensive copy
+    }
+
+    @Override
+    public List<String> itemsView() {
+        return ITEM_NAMES;
+    }
+
+    @Override
+    public int itemCount() {
+        return itemIds.length;
+    }
+
+    @Override
+    public String getItem(int index) {
+        return ItemDictionary.nameOf(itemIds[index]);
+    }
+
+    @Override
+    public int getItemId(int index) {
+        return itemIds[index];
+    }
+
+    @Override
+    public void forEachItem(Consumer<? super String> action) {
+        for (int id : itemIds) {
+            action.accept(ItemDictionary.nameOf(id));
+        }
+    }
+
+    @Override
+    public void forEachItemId(IntConsumer action) {
+        for (int id : itemIds) {
+            action.accept(id);
+        }
+    }
+
+    @Override
+    public DropTable getDropTable() {
+        return DROPS;
     }
 
     @Override
@@ -50,15 +103,16 @@ public class FireLootTable implements LootTable {
 
     @Override
     public String getLootInfo() {
-        return "Fire Loot: " + items +
+        return "Fire Loot: " + ITEM_NAMES +
                 " | Gold: " + goldDrop +
                 " | EXP: " + experienceDrop;
     }
 
     @Override
     public LootTable clone() {
+        // item IDs are immutable: share the array instead of copying a list
         return new FireLootTable(
-                new ArrayList<>(this.items),
+                this.itemIds,
                 this.goldDrop,
                 this.experienceDrop
         );
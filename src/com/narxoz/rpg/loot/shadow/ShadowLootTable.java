@@ -1,38 +1,91 @@
 package com.narxoz.rpg.loot.shadow;
 
+import com.narxoz.rpg.loot.DropTable;
+import com.narxoz.rpg.loot.ItemDictionary;
 import com.narxoz.rpg.loot.LootTable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 /**
  * Shadow-themed loot table.
  */
 
 public class ShadowLootTable implements LootTable{
-    private final List<String> items;
+    // Shared by all instances and clones (immutable)
+    private static final DropTable DROPS = DropTable.builder()
+            .add("Shadow Gem", 50, 1, 3)
+            .add("Shadow Rune", 30, 1, 2)
+            .add("Dark Essence", 10, 1, 1)
+            .nothing(10)
+            .rollsPerKill(2)
+            .build();
+
+    // Item IDs (see ItemDictionary), shared by all instances and clones (never modified)
+    private static final int[] ITEM_IDS = ItemDictionary.idsOf("Shadow Gem", "Dark Essence", "Shadow Rune");
+    private static final List<String> ITEM_NAMES = ItemDictionary.namesOf(ITEM_IDS);
+
+    private final int[] itemIds;
     private final int goldDrop;
     private final int experienceDrop;
 
     public ShadowLootTable() {
-        this.items = new ArrayList<>();
-        items.add("Shadow Gem");
-        items.add("Dark Essence");
-        items.add("Shadow Rune");
+        this.itemIds = ITEM_IDS;
 
         this.goldDrop = 550;
         this.experienceDrop = 1300;
     }
 
-    private ShadowLootTable(List<String> items, int goldDrop, int experienceDrop) {
-        this.items = items;
+    private ShadowLootTable(int[] itemIds, int goldDrop, int experienceDrop) {
+        this.itemIds = itemIds;
         this.goldDrop = goldDrop;
         this.experienceDrop = experienceDrop;
     }
 
     @Override
     public List<String> getItems() {
-        return new ArrayList<>(items);
+        return new ArrayList<>(ITEM_NAMES);
+    }
+
+    @Override
+    public List<String> itemsView() {
+        return ITEM_NAMES;
+    }
+
+    @Override
+    public int itemCount() {
+        return itemIds.length;
+    }
+
+    @Override
+    public String getItem(int index) {
+        return ItemDictionary.nameOf(itemIds[index]);
+    }
+
+    @Override
+    public int getItemId(int index) {
+        return itemIds[index];
+    }
+
+    @Override
+    public void forEachItem(Consumer<? super String> action) {
+        for (int id : itemIds) {
+            action.accept(ItemDictionary.nameOf(id));
+        }
+    }
+
+    @Override
+    public void forEachItemId(IntConsumer action) {
+        for (int id : itemIds) {
+            action.accept(id);
+        }
+    }
+
+    @Override
+    public DropTable getDropTable() {
+        return DROPS;
     }
 
     @Override
@@ -47,15 +100,16 @@ public class ShadowLootTable implements LootTable{
 
     @Override
     public String getLootInfo() {
-        return "Shadow Loot: " + items +
+        return "Shadow Loot: " + ITEM_NAMES +
                 " | Gold: " + goldDrop +
                 " | EXP: " + experienceDrop;
     }
 
     @Override
     public LootTable clone() {
+        // item IDs are immutable: share the array instead of copying a list
         return new ShadowLootTable(
-                new ArrayList<>(this.items),
+                this.itemIds,
                 this.goldDrop,
                 this.experienceDrop
         );
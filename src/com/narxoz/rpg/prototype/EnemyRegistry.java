@@ -1,11 +1,21 @@
 package com.narxoz.rpg.prototype;
 
 import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.EnemySnapshot;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 /**
  * Prototype Registry: stores base enemy templates (prototypes)
@@ -13,23 +23,196 @@ import java.util.Set;
  *
  * CRITICAL RULE:
  * Registry MUST return clones, never the original template.
+ *
+ * Frozen templates:
+ * registerTemplate() freezes the template into an immutable EnemySnapshot.
+ * Later changes to the registered object do not reach the registry, and
+ * spawning is a field copy from the snapshot instead of a recursive clone.
+ *
+ * Level scaling:
+ * a template registered with a ScalingCurve gets a LevelTable (one frozen snapshot
+ * per level) built at registration; createAtLevel() spawns from it.
+ *
+ * Delta templates:
+ * registerDelta() stores only a child's overridden fields plus its parent key.
+ * The child is flattened into a full snapshot on first spawn and cached until
+ * its parent (or any ancestor) is re-registered.
+ *
+ * Variants:
+ * createVariant() applies a Variant's mutations to a clone once, freezes the result
+ * as a derived snapshot and serves later requests with a single clone. Derived
+ * snapshots live in a bounded LRU cache and are rebuilt if their base template
+ * is re-registered.
+ *
+ * Thread safety:
+ * templates live in an immutable map behind an AtomicReference.
+ * Readers (createFromTemplate, listTemplates) do a single volatile read and never lock;
+ * writers copy the map, add to the copy and publish it with compare-and-set.
+ * The variant cache is the exception: it is LRU-ordered, so lookups take its lock.
  */
 public class EnemyRegistry {
 
-    private final Map<String, Enemy> templates = new HashMap<>();
+    /**
+     * How createFromTemplate() copies a template.
+     */
+    public enum CloneMode {
+        /** Every spawn gets its own copies of abilities, loot and phases. */
+        DEEP,
+        /** Spawns share the frozen components until their first mutation. */
+        COPY_ON_WRITE
+    }
+
+    public static final int DEFAULT_VARIANT_CACHE_CAPACITY = 256;
+
+    // Bulk spawns are split into chunks of this size on the fork-join pool
+    private static final int PARALLEL_CHUNK = 256;
+
+    // Immutable map, replaced as a whole on every registration
+    private final AtomicReference<Map<String, Template>> templates =
+            new AtomicReference<>(Collections.emptyMap());
+    private final CloneMode cloneMode;
+
+    // Bulk spawns of at least this many enemies run on the common fork-join pool
+    private volatile int parallelThreshold = Integer.MAX_VALUE;
+
+    private final VariantCache variants = new VariantCache(DEFAULT_VARIANT_CACHE_CAPACITY);
+    private final LongAdder variantHits = new LongAdder();
+    private final LongAdder variantMisses = new LongAdder();
+
+    public EnemyRegistry() {
+        this(CloneMode.DEEP);
+    }
+
+    public EnemyRegistry(CloneMode cloneMode) {
+        if (cloneMode == null) {
+            throw new IllegalArgumentException("Clone mode cannot be null");
+        }
+        this.cloneMode = cloneMode;
+    }
 
     /**
      * Register a prototype template under a key.
      * Example: registerTemplate("goblin", goblinTemplate);
+     *
+     * The template is frozen (Enemy.snapshot()) and validated here.
+     *
+     * @throws IllegalArgumentException if the key or the template is invalid
      */
     public void registerTemplate(String key, Enemy template) {
+        checkTemplate(key, template);
+        publish(Collections.singletonMap(key, new Template(template.snapshot(), null)));
+    }
+
+    /**
+     * Register a child template that overrides a few fields of its parent.
+     * Example: registerDelta("ice_dragon", TemplateDelta.builder("dragon").setElement(Element.ICE).build());
+     *
+     * Nothing is built here; the parent only has to exist when the child is first spawned.
+     *
+     * @throws IllegalArgumentException if the key or delta is invalid, or the parent chain leads back to the key
+     */
+    public void registerDelta(String key, TemplateDelta delta) {
+        if (key == null || key.trim().isEmpty()) {
+            throw new IllegalArgumentException("Template key cannot be null/empty");
+        }
+        if (delta == null) {
+            throw new IllegalArgumentException("Delta cannot be null");
+        }
+        checkParents(key, delta, templates.get());
+        publish(Collections.singletonMap(key, new Template(delta)));
+    }
+
+    /**
+     * Registers (or replaces) several delta templates in one atomic step, e.g. when
+     * loading a designer catalog. Deltas may use each other (or existing templates) as parents.
+     */
+    public void registerDeltas(Map<String, TemplateDelta> deltas) {
+        if (deltas == null) {
+            throw new IllegalArgumentException("Deltas cannot be null");
+        }
+        Map<String, Template> additions = new HashMap<>();
+        for (Map.Entry<String, TemplateDelta> e : deltas.entrySet()) {
+            if (e.getKey() == null || e.getKey().trim().isEmpty()) {
+                throw new IllegalArgumentException("Template key cannot be null/empty");
+            }
+            if (e.getValue() == null) {
+                throw new IllegalArgumentException("Delta cannot be null: " + e.getKey());
+            }
+            additions.put(e.getKey(), new Template(e.getValue()));
+        }
+        Map<String, Template> view = new HashMap<>(templates.get());
+        view.putAll(additions);
+        for (Map.Entry<String, TemplateDelta> e : deltas.entrySet()) {
+            checkParents(e.getKey(), e.getValue(), view);
+        }
+        publish(additions);
+    }
+
+    private static void checkParents(String key, TemplateDelta delta, Map<String, Template> view) {
+        int depthLeft = view.size() + 1;
+        for (String parent = delta.getParentKey(); parent != null; depthLeft--) {
+            if (parent.equals(key) || depthLeft == 0) {
+                throw new IllegalArgumentException("Template inherits from itself: " + key);
+            }
+            Template t = view.get(parent);
+            parent = (t == null || t.delta == null) ? null : t.delta.getParentKey();
+        }
+    }
+
+    /**
+     * Register a template together with its level-scaling curve.
+     * Example: registerTemplate("goblin", goblinTemplate, ScalingCurve.exponential(1.05), 60);
+     *
+     * The LevelTable for levels 1..maxLevel is precomputed here, once.
+     *
+     * @throws IllegalArgumentException if the key, template, curve or max level is invalid
+     */
+    public void registerTemplate(String key, Enemy template, ScalingCurve curve, int maxLevel) {
+        checkTemplate(key, template);
+        EnemySnapshot snapshot = template.snapshot();
+        LevelTable levels = LevelTable.build(snapshot, curve, maxLevel);
+        publish(Collections.singletonMap(key, new Template(snapshot, levels)));
+    }
+
+    private static void checkTemplate(String key, Enemy template) {
         if (key == null || key.trim().isEmpty()) {
             throw new IllegalArgumentException("Template key cannot be null/empty");
         }
         if (template == null) {
             throw new IllegalArgumentException("Template cannot be null");
         }
-        templates.put(key, template);
+    }
+
+    /**
+     * Registers (or replaces) several templates in one atomic step, e.g. for a hot reload:
+     * readers see either none or all of the new templates.
+     */
+    public void registerTemplates(Map<String, ? extends Enemy> newTemplates) {
+        if (newTemplates == null) {
+            throw new IllegalArgumentException("Templates cannot be null");
+        }
+        Map<String, Template> frozen = new HashMap<>();
+        for (Map.Entry<String, ? extends Enemy> e : newTemplates.entrySet()) {
+            if (e.getKey() == null || e.getKey().trim().isEmpty()) {
+                throw new IllegalArgumentException("Template key cannot be null/empty");
+            }
+            if (e.getValue() == null) {
+                throw new IllegalArgumentException("Template cannot be null: " + e.getKey());
+            }
+            frozen.put(e.getKey(), new Template(e.getValue().snapshot(), null));
+        }
+        publish(frozen);
+    }
+
+    private void publish(Map<String, Template> additions) {
+        while (true) {
+            Map<String, Template> current = templates.get();
+            Map<String, Template> next = new HashMap<>(current);
+            next.putAll(additions);
+            if (templates.compareAndSet(current, Collections.unmodifiableMap(next))) {
+                return;
+            }
+        }
     }
 
     /**
@@ -37,24 +220,335 @@ public class EnemyRegistry {
      * Never return the original stored prototype.
      */
     public Enemy createFromTemplate(String key) {
-        Enemy template = templates.get(key);
+        return spawn(snapshotOf(key), null);
+    }
+
+    /**
+     * Create an enemy of the given level: a lookup in the template's LevelTable
+     * plus the usual clone.
+     *
+     * (Not an overload of createFromTemplate: createFromTemplate(key, int) is the bulk spawn.)
+     *
+     * @throws IllegalArgumentException if the template is unknown, has no scaling curve,
+     *         or the level is outside 1..maxLevel
+     */
+    public Enemy createAtLevel(String key, int level) {
+        LevelTable levels = resolve(key).levels;
+        if (levels == null) {
+            throw new IllegalArgumentException("Template has no scaling curve: " + key);
+        }
+        return spawn(levels.snapshotAt(level), null);
+    }
+
+    /**
+     * Bulk spawn: resolves the template once and clones it {@code count} times.
+     *
+     * @return fixed-size list of {@code count} independent clones
+     */
+    public List<Enemy> createFromTemplate(String key, int count) {
+        return createFromTemplate(key, count, null);
+    }
+
+    /**
+     * Bulk spawn with a per-instance customizer (applied to each clone right after cloning).
+     * Above the parallel threshold clones are made on the fork-join pool,
+     * so the customizer must then be safe to call from several threads.
+     */
+    public List<Enemy> createFromTemplate(String key, int count, Consumer<? super Enemy> customizer) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative: " + count);
+        }
+        EnemySnapshot template = snapshotOf(key);
+
+        Enemy[] result = new Enemy[count];
+        if (count >= parallelThreshold && count > PARALLEL_CHUNK) {
+            ForkJoinPool.commonPool().invoke(new CloneTask(this, template, customizer, result, 0, count));
+        } else {
+            for (int i = 0; i < count; i++) {
+                result[i] = spawn(template, customizer);
+            }
+        }
+        return Arrays.asList(result);
+    }
+
+    /**
+     * Create an enemy of a variant: template clone + the variant's mutations.
+     * The first request builds and freezes the variant; later ones are one clone.
+     *
+     * @throws IllegalArgumentException if the variant is null or its template is unknown
+     */
+    public Enemy createVariant(Variant variant) {
+        if (variant == null) {
+            throw new IllegalArgumentException("Variant cannot be null");
+        }
+        EnemySnapshot base = snapshotOf(variant.getTemplateKey());
+
+        EnemySnapshot derived = variants.get(variant, base);
+        if (derived != null) {
+            variantHits.increment();
+        } else {
+            variantMisses.increment();
+            // built outside the lock: two threads may both build the same variant, the result is equal
+            Enemy enemy = base.instantiateDeep();
+            variant.applyTo(enemy);
+            derived = enemy.snapshot();
+            variants.put(variant, base, derived);
+        }
+        return spawn(derived, null);
+    }
+
+    public long getVariantCacheHits() {
+        return variantHits.sum();
+    }
+
+    public long getVariantCacheMisses() {
+        return variantMisses.sum();
+    }
+
+    public int getVariantCacheSize() {
+        return variants.size();
+    }
+
+    public int getVariantCacheCapacity() {
+        return variants.capacity();
+    }
+
+    /**
+     * Maximum number of cached variants; the least recently used are evicted.
+     * Default: DEFAULT_VARIANT_CACHE_CAPACITY.
+     */
+    public void setVariantCacheCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Variant cache capacity must be positive");
+        }
+        variants.setCapacity(capacity);
+    }
+
+    /**
+     * Drops every cached variant (hit/miss counters are kept).
+     */
+    public void clearVariantCache() {
+        variants.clear();
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Bulk spawns of at least {@code threshold} enemies are split across the
+     * common fork-join pool. Default: Integer.MAX_VALUE (always sequential).
+     */
+    public void setParallelThreshold(int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Parallel threshold must be positive");
+        }
+        this.parallelThreshold = threshold;
+    }
+
+    private Template resolve(String key) {
+        Template template = templates.get().get(key);
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown template: " + key);
+        }
+        return template;
+    }
+
+    private EnemySnapshot snapshotOf(String key) {
+        Map<String, Template> current = templates.get();
+        return snapshotOf(key, current, current.size());
+    }
+
+    /**
+     * Full snapshot of a template; a delta is flattened onto its parent's snapshot
+     * (recursively) and cached for as long as that parent snapshot stays the same.
+     */
+    private static EnemySnapshot snapshotOf(String key, Map<String, Template> current, int depthLeft) {
+        Template template = current.get(key);
         if (template == null) {
             throw new IllegalArgumentException("Unknown template: " + key);
         }
-        return template.clone(); // PROTOTYPE: return clone (deep copy inside clone())
+        if (template.delta == null) {
+            return template.snapshot;
+        }
+        if (depthLeft == 0) {
+            throw new IllegalArgumentException("Template inherits from itself: " + key);
+        }
+        EnemySnapshot parent = snapshotOf(template.delta.getParentKey(), current, depthLeft - 1);
+        Derived resolved = template.resolved;
+        if (resolved == null || resolved.base != parent) {
+            // racing threads may both flatten; the results are equal
+            resolved = new Derived(parent, template.delta.applyTo(parent));
+            template.resolved = resolved;
+        }
+        return resolved.snapshot;
+    }
+
+    private Enemy spawn(EnemySnapshot template, Consumer<? super Enemy> customizer) {
+        // PROTOTYPE: always a new instance, never the stored template
+        Enemy enemy = (cloneMode == CloneMode.COPY_ON_WRITE) ? template.instantiate() : template.instantiateDeep();
+        if (customizer != null) {
+            customizer.accept(enemy);
+        }
+        return enemy;
+    }
+
+    public CloneMode getCloneMode() {
+        return cloneMode;
     }
 
     /**
-     * List all registered template keys.
+     * List all registered template keys (snapshot at the time of the call).
      */
     public Set<String> listTemplates() {
-        return Collections.unmodifiableSet(templates.keySet());
+        return templates.get().keySet();
+    }
+
+    /**
+     * Frozen template registered under the key, or null.
+     */
+    public EnemySnapshot getSnapshot(String key) {
+        return templates.get().containsKey(key) ? snapshotOf(key) : null;
+    }
+
+    /**
+     * Level table of the template, or null if it was registered without a scaling curve.
+     */
+    public LevelTable getLevelTable(String key) {
+        Template template = templates.get().get(key);
+        return (template == null) ? null : template.levels;
     }
 
     /**
      * Optional: view templates map (read-only).
+     * Values are fresh instances built from the frozen templates,
+     * so changing them does not affect the registry.
      */
     public Map<String, Enemy> viewTemplates() {
-        return Collections.unmodifiableMap(templates);
+        Map<String, Template> current = templates.get();
+        Map<String, Enemy> view = new HashMap<>();
+        for (String key : current.keySet()) {
+            view.put(key, snapshotOf(key, current, current.size()).instantiateDeep());
+        }
+        return Collections.unmodifiableMap(view);
+    }
+
+    /**
+     * Registered template: frozen snapshot + optional level table (published together),
+     * or a delta whose flattened snapshot is filled in lazily.
+     */
+    private static final class Template {
+        private final EnemySnapshot snapshot; // null for a delta
+        private final LevelTable levels;      // null without a scaling curve
+        private final TemplateDelta delta;
+        private volatile Derived resolved;    // delta flattened onto its parent's snapshot
+
+        Template(EnemySnapshot snapshot, LevelTable levels) {
+            this.snapshot = snapshot;
+            this.levels = levels;
+            this.delta = null;
+        }
+
+        Template(TemplateDelta delta) {
+            this.snapshot = null;
+            this.levels = null;
+            this.delta = delta;
+        }
+    }
+
+    /**
+     * LRU map Variant -> derived snapshot, guarded by its own monitor.
+     * Each entry remembers the base snapshot it was derived from, so a
+     * re-registered template makes its old variants miss.
+     */
+    private static final class VariantCache {
+        private final LinkedHashMap<Variant, Derived> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private int capacity;
+
+        VariantCache(int capacity) {
+            this.capacity = capacity;
+        }
+
+        synchronized EnemySnapshot get(Variant variant, EnemySnapshot base) {
+            Derived derived = entries.get(variant);
+            return (derived != null && derived.base == base) ? derived.snapshot : null;
+        }
+
+        synchronized void put(Variant variant, EnemySnapshot base, EnemySnapshot snapshot) {
+            entries.put(variant, new Derived(base, snapshot));
+            evict();
+        }
+
+        synchronized void setCapacity(int capacity) {
+            this.capacity = capacity;
+            evict();
+        }
+
+        synchronized int capacity() {
+            return capacity;
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        synchronized void clear() {
+            entries.clear();
+        }
+
+        private void evict() {
+            Iterator<Variant> eldest = entries.keySet().iterator();
+            while (entries.size() > capacity) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    private static final class Derived {
+        private final EnemySnapshot base;
+        private final EnemySnapshot snapshot;
+
+        Derived(EnemySnapshot base, EnemySnapshot snapshot) {
+            this.base = base;
+            this.snapshot = snapshot;
+        }
+    }
+
+    /**
+     * Fills result[from, to) with clones, splitting the range in halves down to PARALLEL_CHUNK.
+     * Never serialized: a task only lives for one bulk createFromTemplate() call.
+     */
+    @SuppressWarnings("serial")
+    private static final class CloneTask extends RecursiveAction {
+        private final EnemyRegistry registry;
+        private final EnemySnapshot template;
+        private final Consumer<? super Enemy> customizer;
+        private final Enemy[] result;
+        private final int from;
+        private final int to;
+
+        CloneTask(EnemyRegistry registry, EnemySnapshot template, Consumer<? super Enemy> customizer,
+                  Enemy[] result, int from, int to) {
+            this.registry = registry;
+            this.template = template;
+            this.customizer = customizer;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_CHUNK) {
+                for (int i = from; i < to; i++) {
+                    result[i] = registry.spawn(template, customizer);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new CloneTask(registry, template, customizer, result, from, mid),
+                    new CloneTask(registry, template, customizer, result, mid, to));
+        }
     }
 }
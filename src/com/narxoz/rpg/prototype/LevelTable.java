@@ -0,0 +1,73 @@
+package com.narxoz.rpg.prototype;
+
+import com.narxoz.rpg.enemy.EnemySnapshot;
+
+/**
+ * Precomputed level table of one template: a frozen snapshot per level 1..maxLevel.
+ *
+ * Built once at registration by applying a ScalingCurve to the template stats,
+ * so spawning a level-47 goblin is an array lookup plus the usual Prototype clone
+ * (no double multiply / round per stat per spawn).
+ *
+ * Immutable.
+ */
+public final class LevelTable {
+
+    private final EnemySnapshot[] levels; // index 0 = level 1
+
+    private LevelTable(EnemySnapshot[] levels) {
+        this.levels = levels;
+    }
+
+    /**
+     * @throws IllegalArgumentException if maxLevel is not positive, the curve yields a
+     *         non-positive / non-finite multiplier, or a scaled level is not a valid template
+     */
+    static LevelTable build(EnemySnapshot base, ScalingCurve curve, int maxLevel) {
+        if (curve == null) {
+            throw new IllegalArgumentException("Scaling curve cannot be null");
+        }
+        if (maxLevel <= 0) {
+            throw new IllegalArgumentException("Max level must be positive: " + maxLevel);
+        }
+        EnemySnapshot[] levels = new EnemySnapshot[maxLevel];
+        for (int level = 1; level <= maxLevel; level++) {
+            double multiplier = curve.multiplierAt(level);
+            if (!(multiplier > 0) || Double.isInfinite(multiplier)) {
+                throw new IllegalArgumentException("Invalid multiplier " + multiplier + " at level " + level);
+            }
+            levels[level - 1] = base.scaled(multiplier);
+        }
+        return new LevelTable(levels);
+    }
+
+    public int maxLevel() {
+        return levels.length;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the level is outside 1..maxLevel()
+     */
+    public EnemySnapshot snapshotAt(int level) {
+        if (level < 1 || level > levels.length) {
+            throw new IllegalArgumentException("Level " + level + " outside 1.." + levels.length);
+        }
+        return levels[level - 1];
+    }
+
+    public int getHealth(int level) {
+        return snapshotAt(level).getHealth();
+    }
+
+    public int getDamage(int level) {
+        return snapshotAt(level).getDamage();
+    }
+
+    public int getDefense(int level) {
+        return snapshotAt(level).getDefense();
+    }
+
+    public int getSpeed(int level) {
+        return snapshotAt(level).getSpeed();
+    }
+}
@@ -0,0 +1,44 @@
+package com.narxoz.rpg.prototype;
+
+import java.util.Arrays;
+
+/**
+ * Level-scaling curve: stat multiplier for a level (level 1 = first level).
+ *
+ * A stat at level L is (int) Math.round(baseStat * multiplierAt(L)),
+ * the same rounding as Enemy.multiplyStats(). Curves are evaluated once per
+ * level when a LevelTable is built, never per spawn.
+ */
+@FunctionalInterface
+public interface ScalingCurve {
+
+    double multiplierAt(int level);
+
+    /**
+     * 1.0 at level 1, plus {@code perLevel} for every level above it.
+     * Example: linear(0.1) -> level 11 has x2.0 stats.
+     */
+    static ScalingCurve linear(double perLevel) {
+        return level -> 1.0 + perLevel * (level - 1);
+    }
+
+    /**
+     * 1.0 at level 1, multiplied by {@code growthPerLevel} for every level above it.
+     * Example: exponential(1.05) -> +5% per level, compounding.
+     */
+    static ScalingCurve exponential(double growthPerLevel) {
+        return level -> Math.pow(growthPerLevel, level - 1);
+    }
+
+    /**
+     * Explicit multipliers: multipliers[0] is level 1, multipliers[1] is level 2, ...
+     * Levels past the end keep the last multiplier.
+     */
+    static ScalingCurve custom(double... multipliers) {
+        if (multipliers == null || multipliers.length == 0) {
+            throw new IllegalArgumentException("Custom curve needs at least one multiplier");
+        }
+        double[] copy = Arrays.copyOf(multipliers, multipliers.length);
+        return level -> copy[Math.min(level, copy.length) - 1];
+    }
+}
@@ -0,0 +1,199 @@
+package com.narxoz.rpg.prototype;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.enemy.AIBehavior;
+import com.narxoz.rpg.enemy.Element;
+import com.narxoz.rpg.enemy.EnemySnapshot;
+import com.narxoz.rpg.enemy.PhaseTable;
+import com.narxoz.rpg.loot.LootTable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Child template that stores only the fields it overrides; everything else
+ * comes from the parent template.
+ * Example: TemplateDelta.builder("dragon").setName("Ice Dragon").setElement(Element.ICE)
+ *                 .setAI(AIBehavior.DEFENSIVE).setAbilities(ice.createAbilities()).build()
+ *
+ * Registered with EnemyRegistry.registerDelta(); the registry flattens it into a
+ * full EnemySnapshot on first spawn and caches that. Parents may be deltas too.
+ */
+public final class TemplateDelta {
+
+    // bits of `overrides`
+    private static final int NAME = 1;
+    private static final int HEALTH = 1 << 1;
+    private static final int DAMAGE = 1 << 2;
+    private static final int DEFENSE = 1 << 3;
+    private static final int SPEED = 1 << 4;
+    private static final int ELEMENT = 1 << 5;
+    private static final int AI = 1 << 6;
+    private static final int ABILITIES = 1 << 7;
+    private static final int PHASES = 1 << 8;
+    private static final int LOOT = 1 << 9;
+
+    private final String parentKey;
+    private final int overrides;
+
+    private final String name;
+    private final int health;
+    private final int damage;
+    private final int defense;
+    private final int speed;
+    private final Element element;
+    private final AIBehavior aiBehavior;
+    private final List<Ability> abilities;   // immutable, the caller's instances
+    private final PhaseTable phases;
+    private final LootTable lootTable;       // private copy
+
+    private TemplateDelta(Builder builder) {
+        this.parentKey = builder.parentKey;
+        this.overrides = builder.overrides;
+        this.name = builder.name;
+        this.health = builder.health;
+        this.damage = builder.damage;
+        this.defense = builder.defense;
+        this.speed = builder.speed;
+        this.element = builder.element;
+        this.aiBehavior = builder.aiBehavior;
+        this.abilities = builder.abilities;
+        this.phases = builder.phases;
+        this.lootTable = builder.lootTable;
+    }
+
+    public static Builder builder(String parentKey) {
+        if (parentKey == null || parentKey.trim().isEmpty()) {
+            throw new IllegalArgumentException("Parent template key cannot be null/empty");
+        }
+        return new Builder(parentKey);
+    }
+
+    public String getParentKey() {
+        return parentKey;
+    }
+
+    /**
+     * @return number of overridden fields
+     */
+    public int overrideCount() {
+        return Integer.bitCount(overrides);
+    }
+
+    /**
+     * Parent snapshot with this delta's overrides applied.
+     *
+     * @throws IllegalArgumentException if the result is not a valid template
+     */
+    EnemySnapshot applyTo(EnemySnapshot parent) {
+        EnemySnapshot.Builder b = parent.toBuilder();
+        if ((overrides & NAME) != 0) b.setName(name);
+        if ((overrides & HEALTH) != 0) b.setHealth(health);
+        if ((overrides & DAMAGE) != 0) b.setDamage(damage);
+        if ((overrides & DEFENSE) != 0) b.setDefense(defense);
+        if ((overrides & SPEED) != 0) b.setSpeed(speed);
+        if ((overrides & ELEMENT) != 0) b.setElement(element);
+        if ((overrides & AI) != 0) b.setAIBehavior(aiBehavior);
+        if ((overrides & ABILITIES) != 0) b.setAbilities(abilities);
+        if ((overrides & PHASES) != 0) b.setPhases(phases);
+        if ((overrides & LOOT) != 0) b.setLootTable(lootTable);
+        return b.build();
+    }
+
+    /**
+     * Setters mark a field as overridden; fields never set are inherited.
+     */
+    public static final class Builder {
+        private final String parentKey;
+        private int overrides;
+
+        private String name;
+        private int health;
+        private int damage;
+        private int defense;
+        private int speed;
+        private Element element;
+        private AIBehavior aiBehavior;
+        private List<Ability> abilities;
+        private PhaseTable phases = PhaseTable.EMPTY;
+        private LootTable lootTable;
+
+        private Builder(String parentKey) {
+            this.parentKey = parentKey;
+        }
+
+        public Builder setName(String name) {
+            this.name = name;
+            overrides |= NAME;
+            return this;
+        }
+
+        public Builder setHealth(int health) {
+            this.health = health;
+            overrides |= HEALTH;
+            return this;
+        }
+
+        public Builder setDamage(int damage) {
+            this.damage = damage;
+            overrides |= DAMAGE;
+            return this;
+        }
+
+        public Builder setDefense(int defense) {
+            this.defense = defense;
+            overrides |= DEFENSE;
+            return this;
+        }
+
+        public Builder setSpeed(int speed) {
+            this.speed = speed;
+            overrides |= SPEED;
+            return this;
+        }
+
+        public Builder setElement(Element element) {
+            this.element = element;
+            overrides |= ELEMENT;
+            return this;
+        }
+
+        public Builder setAI(AIBehavior aiBehavior) {
+            this.aiBehavior = aiBehavior;
+            overrides |= AI;
+            return this;
+        }
+
+        public Builder setAbilities(List<Ability> abilities) {
+            List<Ability> copy = new ArrayList<>();
+            if (abilities != null) {
+                for (Ability a : abilities) {
+                    if (a != null) copy.add(a);
+                }
+            }
+            // the instances are kept as given; an immutable input list (e.g. from a themed factory) is shared as is
+            this.abilities = (abilities != null && copy.size() == abilities.size()) ? List.copyOf(abilities) : List.copyOf(copy);
+            overrides |= ABILITIES;
+            return this;
+        }
+
+        /**
+         * Replaces the parent's phases; the first call starts from an empty table.
+         */
+        public Builder addPhase(int phaseNumber, int healthThreshold) {
+            this.phases = phases.with(phaseNumber, healthThreshold);
+            overrides |= PHASES;
+            return this;
+        }
+
+        public Builder setLootTable(LootTable lootTable) {
+            this.lootTable = (lootTable == null) ? null : lootTable.clone();
+            overrides |= LOOT;
+            return this;
+        }
+
+        public TemplateDelta build() {
+            return new TemplateDelta(this);
+        }
+    }
+}
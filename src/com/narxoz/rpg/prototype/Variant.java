@@ -0,0 +1,206 @@
+package com.narxoz.rpg.prototype;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.enemy.AIBehavior;
+import com.narxoz.rpg.enemy.Element;
+import com.narxoz.rpg.enemy.Enemy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Description of a template variant: a registered template key plus an ordered
+ * list of the mutations normally applied right after cloning.
+ * Example: Variant.builder("goblin").multiplyStats(5.0).setAIBehaviorCode(AIBehavior.TACTICAL)
+ *                 .addAbility(new FlameBreath()).build()
+ *
+ * Immutable value: two variants with the same key and the same mutations in the
+ * same order are equal, so EnemyRegistry.createVariant() can cache the result.
+ * Abilities are stored as given and compared with equals(); shareable ones
+ * (Ability.isShareable(), every instance interchangeable) also match any other
+ * instance of the same class.
+ */
+public final class Variant {
+
+    private enum Op {
+        MULTIPLY_STATS, SET_ELEMENT, SET_AI, ADD_ABILITY
+    }
+
+    private final String templateKey;
+    private final List<Mutation> mutations;
+    private final int hash;
+
+    private Variant(String templateKey, List<Mutation> mutations) {
+        this.templateKey = templateKey;
+        this.mutations = List.copyOf(mutations);
+        this.hash = 31 * templateKey.hashCode() + this.mutations.hashCode();
+    }
+
+    public static Builder builder(String templateKey) {
+        if (templateKey == null || templateKey.trim().isEmpty()) {
+            throw new IllegalArgumentException("Template key cannot be null/empty");
+        }
+        return new Builder(templateKey);
+    }
+
+    public String getTemplateKey() {
+        return templateKey;
+    }
+
+    public int mutationCount() {
+        return mutations.size();
+    }
+
+    /**
+     * Applies the mutations, in order, to a fresh clone of the template.
+     */
+    void applyTo(Enemy enemy) {
+        for (Mutation m : mutations) {
+            m.applyTo(enemy);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Variant)) return false;
+        Variant other = (Variant) o;
+        return hash == other.hash
+                && templateKey.equals(other.templateKey)
+                && mutations.equals(other.mutations);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return templateKey + mutations;
+    }
+
+    /**
+     * One step: an operation and its argument (number for MULTIPLY_STATS, object otherwise).
+     */
+    private static final class Mutation {
+        private final Op op;
+        private final double number;
+        private final Object value;   // Element/AIBehavior (or the raw String), the caller's Ability
+
+        Mutation(Op op, double number, Object value) {
+            this.op = op;
+            this.number = number;
+            this.value = value;
+        }
+
+        void applyTo(Enemy enemy) {
+            switch (op) {
+                case MULTIPLY_STATS:
+                    enemy.multiplyStats(number);
+                    break;
+                case SET_ELEMENT:
+                    if (value instanceof String) {
+                        enemy.setElement((String) value);
+                    } else {
+                        enemy.setElementCode((Element) value);
+                    }
+                    break;
+                case SET_AI:
+                    if (value instanceof String) {
+                        enemy.setAIBehavior((String) value);
+                    } else {
+                        enemy.setAIBehaviorCode((AIBehavior) value);
+                    }
+                    break;
+                default:
+                    enemy.addAbility((Ability) value);
+                    break;
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Mutation)) return false;
+            Mutation other = (Mutation) o;
+            // Element / AIBehavior are interned: identity, Strings and abilities by value
+            return op == other.op
+                    && Double.compare(number, other.number) == 0
+                    && Objects.equals(key(value), key(other.value));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * op.hashCode() + Double.hashCode(number)) + Objects.hashCode(key(value));
+        }
+
+        // a shareable ability is equal to every instance of its class
+        private static Object key(Object value) {
+            return (value instanceof Ability && ((Ability) value).isShareable()) ? value.getClass() : value;
+        }
+
+        @Override
+        public String toString() {
+            switch (op) {
+                case MULTIPLY_STATS:
+                    return "x" + number;
+                case ADD_ABILITY:
+                    return "+" + ((Ability) value).getName();
+                default:
+                    return String.valueOf(value);
+            }
+        }
+    }
+
+    /**
+     * Collects mutations in call order.
+     */
+    public static final class Builder {
+        private final String templateKey;
+        private final List<Mutation> mutations = new ArrayList<>();
+
+        private Builder(String templateKey) {
+            this.templateKey = templateKey;
+        }
+
+        public Builder multiplyStats(double multiplier) {
+            mutations.add(new Mutation(Op.MULTIPLY_STATS, multiplier, null));
+            return this;
+        }
+
+        public Builder setElementCode(Element element) {
+            mutations.add(new Mutation(Op.SET_ELEMENT, 0, element));
+            return this;
+        }
+
+        /**
+         * Raw string, passed to Enemy.setElement(String) as is (same parsing as a manual call).
+         */
+        public Builder setElement(String element) {
+            mutations.add(new Mutation(Op.SET_ELEMENT, 0, element));
+            return this;
+        }
+
+        public Builder setAIBehaviorCode(AIBehavior aiBehavior) {
+            mutations.add(new Mutation(Op.SET_AI, 0, aiBehavior));
+            return this;
+        }
+
+        public Builder setAIBehavior(String aiBehavior) {
+            mutations.add(new Mutation(Op.SET_AI, 0, aiBehavior));
+            return this;
+        }
+
+        public Builder addAbility(Ability ability) {
+            if (ability != null) {
+                mutations.add(new Mutation(Op.ADD_ABILITY, 0, ability));
+            }
+            return this;
+        }
+
+        public Variant build() {
+            return new Variant(templateKey, mutations);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.narxoz.rpg.simulation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Result of EconomySimulator.simulate(): totals and drop distributions per template.
+ *
+ * Immutable; equals() compares every number, so two runs with the same seed
+ * can be checked for reproducibility.
+ */
+public final class EconomyReport {
+
+    private final long seed;
+    private final Map<String, TemplateReport> templates;
+
+    EconomyReport(long seed, Map<String, TemplateReport> templates) {
+        this.seed = seed;
+        this.templates = Collections.unmodifiableMap(new LinkedHashMap<>(templates));
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Map<String, TemplateReport> getTemplates() {
+        return templates;
+    }
+
+    public long getTotalKills() {
+        long sum = 0;
+        for (TemplateReport t : templates.values()) sum += t.getKills();
+        return sum;
+    }
+
+    public long getTotalGold() {
+        long sum = 0;
+        for (TemplateReport t : templates.values()) sum += t.getTotalGold();
+        return sum;
+    }
+
+    public long getTotalExperience() {
+        long sum = 0;
+        for (TemplateReport t : templates.values()) sum += t.getTotalExperience();
+        return sum;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EconomyReport)) return false;
+        EconomyReport other = (EconomyReport) o;
+        return seed == other.seed && templates.equals(other.templates);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(seed) + templates.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== Economy simulation (seed=").append(seed).append(") ===\n");
+        for (TemplateReport t : templates.values()) {
+            sb.append(t).append('\n');
+        }
+        sb.append("TOTAL: kills=").append(getTotalKills())
+                .append(" | Gold=").append(getTotalGold())
+                .append(" | EXP=").append(getTotalExperience());
+        return sb.toString();
+    }
+
+    /**
+     * Totals and distributions for one template.
+     */
+    public static final class TemplateReport {
+        private final String key;
+        private final long kills;
+        private final long totalGold;
+        private final long totalExperience;
+        private final Map<String, Long> itemTotals;
+        private final long[] unitsPerKill;     // unitsPerKill[n] = kills that dropped n item units
+        private final long unitsSum;
+        private final double unitsSquaredSum;
+
+        TemplateReport(String key, long kills, long totalGold, long totalExperience,
+                       Map<String, Long> itemTotals, long[] unitsPerKill, long unitsSum, double unitsSquaredSum) {
+            this.key = key;
+            this.kills = kills;
+            this.totalGold = totalGold;
+            this.totalExperience = totalExperience;
+            this.itemTotals = Collections.unmodifiableMap(new LinkedHashMap<>(itemTotals));
+            this.unitsPerKill = unitsPerKill.clone();
+            this.unitsSum = unitsSum;
+            this.unitsSquaredSum = unitsSquaredSum;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public long getKills() {
+            return kills;
+        }
+
+        public long getTotalGold() {
+            return totalGold;
+        }
+
+        public long getTotalExperience() {
+            return totalExperience;
+        }
+
+        /**
+         * @return item name -> total quantity dropped
+         */
+        public Map<String, Long> getItemTotals() {
+            return itemTotals;
+        }
+
+        /**
+         * @return histogram: element n = number of kills that dropped n item units;
+         *         the last element also counts every kill that dropped more
+         */
+        public long[] getUnitsPerKillHistogram() {
+            return unitsPerKill.clone();
+        }
+
+        public double getMeanUnitsPerKill() {
+            if (kills == 0) return 0;
+            return (double) unitsSum / kills;
+        }
+
+        public double getStdDevUnitsPerKill() {
+            if (kills == 0) return 0;
+            double mean = getMeanUnitsPerKill();
+            return Math.sqrt(Math.max(0, unitsSquaredSum / kills - mean * mean));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TemplateReport)) return false;
+            TemplateReport other = (TemplateReport) o;
+            return kills == other.kills
+                    && totalGold == other.totalGold
+                    && totalExperience == other.totalExperience
+                    && unitsSum == other.unitsSum
+                    && Double.compare(unitsSquaredSum, other.unitsSquaredSum) == 0
+                    && key.equals(other.key)
+                    && itemTotals.equals(other.itemTotals)
+                    && Arrays.equals(unitsPerKill, other.unitsPerKill);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * key.hashCode() + Long.hashCode(kills)) + Arrays.hashCode(unitsPerKill);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[%s] kills=%d | Gold=%d | EXP=%d | items/kill=%.3f (sd %.3f) | items=%s | histogram=%s",
+                    key, kills, totalGold, totalExperience,
+                    getMeanUnitsPerKill(), getStdDevUnitsPerKill(),
+                    itemTotals, Arrays.toString(unitsPerKill));
+        }
+    }
+}
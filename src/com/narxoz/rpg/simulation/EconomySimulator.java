@@ -0,0 +1,204 @@
+package com.narxoz.rpg.simulation;
+
+import com.narxoz.rpg.enemy.EnemySnapshot;
+import com.narxoz.rpg.loot.DropTable;
+import com.narxoz.rpg.loot.LootTable;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monte Carlo loot / economy simulator: estimates gold, EXP and item inflow
+ * for a spawn mix of EnemyRegistry templates before a patch ships.
+ *
+ * Kills are split into fixed-size chunks that run in parallel on the common
+ * fork-join pool. Each chunk gets its own SplittableRandom, split from the seed
+ * in a fixed order before anything runs, totals are plain sums (LongAdder) and
+ * the floating-point sum of squares is added up in chunk order, so the same
+ * seed and spawn mix always give the same report, whatever the number of
+ * cores or the scheduling.
+ */
+public class EconomySimulator {
+
+    private static final int CHUNK_KILLS = 16_384;
+    private static final int MAX_HISTOGRAM_UNITS = 1_024; // last bucket collects everything above
+
+    private final EnemyRegistry registry;
+
+    public EconomySimulator(EnemyRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry cannot be null");
+        }
+        this.registry = registry;
+    }
+
+    /**
+     * Simulates {@code kills.get(key)} kills of every template in the spawn mix.
+     * Templates are processed in key order, so any Map type gives the same report.
+     *
+     * @throws IllegalArgumentException if a template is unknown or a kill count is negative
+     */
+    public EconomyReport simulate(Map<String, Long> kills, long seed) {
+        if (kills == null) {
+            throw new IllegalArgumentException("Spawn mix cannot be null");
+        }
+        SplittableRandom root = new SplittableRandom(seed);
+        List<Tally> tallies = new ArrayList<>();
+        List<Chunk> chunks = new ArrayList<>();
+
+        for (String key : kills.keySet()) {
+            // not containsKey(null): immutable maps (Map.of) throw on a null query
+            if (key == null) {
+                throw new IllegalArgumentException("Template key cannot be null");
+            }
+        }
+        for (Map.Entry<String, Long> e : new TreeMap<>(kills).entrySet()) {
+            EnemySnapshot template = registry.getSnapshot(e.getKey());
+            if (template == null) {
+                throw new IllegalArgumentException("Unknown template: " + e.getKey());
+            }
+            long count = (e.getValue() == null) ? 0 : e.getValue();
+            if (count < 0) {
+                throw new IllegalArgumentException("Kill count cannot be negative: " + e.getKey());
+            }
+
+            Tally tally = new Tally(e.getKey(), template.getLootTable(), count);
+            tallies.add(tally);
+            int index = 0;
+            for (long first = 0; first < count; first += CHUNK_KILLS) {
+                // split in a fixed order, before any chunk runs
+                chunks.add(new Chunk(tally, index++, (int) Math.min(CHUNK_KILLS, count - first), root.split()));
+            }
+        }
+
+        chunks.parallelStream().forEach(Chunk::run);
+
+        Map<String, EconomyReport.TemplateReport> reports = new LinkedHashMap<>();
+        for (Tally tally : tallies) {
+            reports.put(tally.key, tally.report());
+        }
+        return new EconomyReport(seed, reports);
+    }
+
+    /**
+     * Striped counters for one template, shared by all of its chunks.
+     */
+    private static final class Tally {
+        private final String key;
+        private final long kills;
+        private final int goldPerKill;
+        private final int experiencePerKill;
+        private final DropTable drops;         // null = no loot table or no items
+
+        private final LongAdder[] quantityByEntry;
+        private final LongAdder[] killsByUnits; // histogram: item units dropped per kill, last = overflow
+        private final LongAdder units = new LongAdder();
+        private final double[] unitsSquaredByChunk; // doubles, summed in chunk order to stay deterministic
+
+        Tally(String key, LootTable lootTable, long kills) {
+            this.key = key;
+            this.kills = kills;
+            this.unitsSquaredByChunk = new double[Math.toIntExact(kills / CHUNK_KILLS + ((kills % CHUNK_KILLS != 0) ? 1 : 0))];
+            this.goldPerKill = (lootTable == null) ? 0 : lootTable.getGoldDrop();
+            this.experiencePerKill = (lootTable == null) ? 0 : lootTable.getExperienceDrop();
+            // the default drop table cannot be built from an empty item list (gold/EXP only)
+            this.drops = (lootTable == null || lootTable.itemCount() == 0) ? null : lootTable.getDropTable();
+
+            int entries = (drops == null) ? 0 : drops.size();
+            int maxQuantity = 0;
+            for (int i = 0; i < entries; i++) {
+                maxQuantity = Math.max(maxQuantity, drops.getMaxQuantity(i));
+            }
+            long maxUnits = (drops == null) ? 0 : Math.multiplyExact((long) drops.getRollsPerKill(), maxQuantity);
+
+            this.quantityByEntry = adders(entries);
+            this.killsByUnits = adders((int) Math.min(maxUnits, MAX_HISTOGRAM_UNITS) + 1);
+        }
+
+        private static LongAdder[] adders(int n) {
+            LongAdder[] adders = new LongAdder[n];
+            for (int i = 0; i < n; i++) adders[i] = new LongAdder();
+            return adders;
+        }
+
+        EconomyReport.TemplateReport report() {
+            Map<String, Long> items = new LinkedHashMap<>();
+            for (int i = 0; i < quantityByEntry.length; i++) {
+                String item = drops.getItem(i);
+                if (item != null) {
+                    items.merge(item, quantityByEntry[i].sum(), Long::sum);
+                }
+            }
+            long[] histogram = new long[killsByUnits.length];
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] = killsByUnits[i].sum();
+            }
+            double unitsSquared = 0;
+            for (double chunk : unitsSquaredByChunk) {
+                unitsSquared += chunk;
+            }
+            return new EconomyReport.TemplateReport(key, kills,
+                    kills * goldPerKill, kills * experiencePerKill,
+                    items, histogram, units.sum(), unitsSquared);
+        }
+    }
+
+    /**
+     * A block of kills of one template with its own random stream;
+     * counts locally and publishes to the Tally once at the end.
+     */
+    private static final class Chunk {
+        private final Tally tally;
+        private final int index;
+        private final int kills;
+        private final SplittableRandom random;
+
+        Chunk(Tally tally, int index, int kills, SplittableRandom random) {
+            this.tally = tally;
+            this.index = index;
+            this.kills = kills;
+            this.random = random;
+        }
+
+        void run() {
+            DropTable drops = tally.drops;
+            long[] quantities = new long[tally.quantityByEntry.length];
+            long[] histogram = new long[tally.killsByUnits.length];
+            int overflow = histogram.length - 1;
+            long unitsSum = 0;
+            double unitsSquared = 0;
+
+            for (int k = 0; k < kills; k++) {
+                long units = 0;
+                if (drops != null) {
+                    for (int r = 0; r < drops.getRollsPerKill(); r++) {
+                        int entry = drops.sample(random);
+                        if (drops.getItemId(entry) >= 0) {
+                            int quantity = drops.rollQuantity(entry, random);
+                            quantities[entry] += quantity;
+                            units += quantity;
+                        }
+                    }
+                }
+                histogram[(int) Math.min(units, overflow)]++;
+                unitsSum += units;
+                unitsSquared += (double) units * units;
+            }
+
+            for (int i = 0; i < quantities.length; i++) {
+                tally.quantityByEntry[i].add(quantities[i]);
+            }
+            for (int i = 0; i < histogram.length; i++) {
+                tally.killsByUnits[i].add(histogram[i]);
+            }
+            tally.units.add(unitsSum);
+            tally.unitsSquaredByChunk[index] = unitsSquared;
+        }
+    }
+}